@@ -2,8 +2,10 @@ package com.fabien.restaurant_booking_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class RestaurantBookingApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,13 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.LocalDate;
+
+public record AvailabilityCalendarEntry(
+    LocalDate date,
+    TimeSlotType timeSlotType,
+    long freeTables,
+    long totalTables
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.LocalDate;
+
+/**
+ * Un créneau d'une table vient d'être pris ({@code free = false}) ou libéré.
+ */
+public record AvailabilityChange(Long restaurantId, Long diningTableId, LocalDate date,
+                                 TimeSlotType timeSlotType, boolean free) {
+
+}
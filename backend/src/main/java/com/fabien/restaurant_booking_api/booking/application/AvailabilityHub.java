@@ -0,0 +1,200 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Diffusion en processus des changements de disponibilité, par restaurant.
+ * <p>
+ * Publier ne fait que déposer l'événement dans le tampon borné de chaque abonné : l'écriture de
+ * la réservation n'attend aucun client. Chaque abonné est servi par son propre thread virtuel, si
+ * bien qu'un client lent ne retarde que lui-même. Quand son tampon est plein, l'événement le plus
+ * ancien est écarté et le nombre d'événements perdus accompagne le suivant, pour que le client
+ * sache qu'il doit relire les disponibilités.
+ * <p>
+ * Sans événement pendant {@code booking.stream.heartbeat-ms}, l'abonné reçoit un battement : un
+ * client parti sans fermer la connexion est détecté à l'écriture suivante au lieu d'occuper son
+ * abonnement jusqu'à l'expiration du flux.
+ */
+@Slf4j
+@Component
+public class AvailabilityHub implements MeterBinder, DisposableBean {
+
+  private final int bufferSize;
+  private final long heartbeatMillis;
+  private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+  private final LongAdder droppedEvents = new LongAdder();
+
+  public AvailabilityHub(@Value("${booking.stream.buffer-size:32}") int bufferSize,
+      @Value("${booking.stream.heartbeat-ms:15000}") long heartbeatMillis) {
+    this.bufferSize = bufferSize;
+    this.heartbeatMillis = heartbeatMillis;
+  }
+
+  /**
+   * Le listener est appelé depuis un thread dédié à l'abonnement ; s'il lève une exception,
+   * l'abonnement est fermé. {@link Listener#onClose()} est appelé une fois, quelle que soit la
+   * cause de la fermeture.
+   */
+  public Subscription subscribe(Long restaurantId, Listener listener) {
+    Subscription subscription = new Subscription(restaurantId, listener);
+    subscriptions.compute(restaurantId, (id, current) -> {
+      Set<Subscription> set = current != null ? current : ConcurrentHashMap.newKeySet();
+      set.add(subscription);
+      return set;
+    });
+    subscription.start();
+    return subscription;
+  }
+
+  public void publish(AvailabilityChange change) {
+    Set<Subscription> subscribers = subscriptions.get(change.restaurantId());
+    if (subscribers != null) {
+      subscribers.forEach(subscription -> subscription.offer(change));
+    }
+  }
+
+  public int subscriberCount() {
+    return subscriptions.values()
+        .stream()
+        .mapToInt(Set::size)
+        .sum();
+  }
+
+  public long getDroppedEvents() {
+    return droppedEvents.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("booking.availability.subscribers", this, AvailabilityHub::subscriberCount)
+        .description("Clients abonnés au flux de disponibilité")
+        .register(registry);
+    FunctionCounter.builder("booking.availability.dropped", this,
+            AvailabilityHub::getDroppedEvents)
+        .description("Événements écartés faute de place dans le tampon d'un abonné lent")
+        .register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    subscriptions.values()
+        .stream()
+        .flatMap(Set::stream)
+        .toList()
+        .forEach(Subscription::close);
+  }
+
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * @param dropped événements écartés depuis le précédent appel
+     */
+    void onChange(AvailabilityChange change, long dropped) throws IOException;
+
+    /**
+     * Aucun événement depuis {@code heartbeat-ms} : une écriture qui échoue ferme l'abonnement.
+     */
+    default void onHeartbeat() throws IOException {
+    }
+
+    /**
+     * L'abonnement est fermé : par le client, à l'arrêt de l'application ou après l'échec d'une
+     * livraison.
+     */
+    default void onClose() {
+    }
+  }
+
+  public final class Subscription {
+
+    private final Long restaurantId;
+    private final Listener listener;
+    private final BlockingQueue<AvailabilityChange> buffer;
+    private final AtomicLong droppedSinceLastDelivery = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread sender;
+
+    private Subscription(Long restaurantId, Listener listener) {
+      this.restaurantId = restaurantId;
+      this.listener = listener;
+      this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    public void close() {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      subscriptions.computeIfPresent(restaurantId, (id, set) -> {
+        set.remove(this);
+        return set.isEmpty() ? null : set;
+      });
+      Thread thread = sender;
+      if (thread != null && thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    }
+
+    public boolean isClosed() {
+      return closed.get();
+    }
+
+    private void offer(AvailabilityChange change) {
+      while (!buffer.offer(change)) {
+        if (buffer.poll() != null) {
+          droppedSinceLastDelivery.incrementAndGet();
+          droppedEvents.increment();
+        }
+      }
+    }
+
+    private void start() {
+      sender = Thread.ofVirtual()
+          .name("availability-stream-" + restaurantId)
+          .start(this::deliver);
+    }
+
+    private void deliver() {
+      try {
+        while (!closed.get()) {
+          AvailabilityChange change = buffer.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+          if (change == null) {
+            listener.onHeartbeat();
+          } else {
+            listener.onChange(change, droppedSinceLastDelivery.getAndSet(0));
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | RuntimeException e) {
+        log.debug("Abonné au flux de disponibilité du restaurant {} déconnecté : {}",
+            restaurantId, e.getMessage());
+      } finally {
+        close();
+        try {
+          listener.onClose();
+        } catch (RuntimeException e) {
+          log.debug("Fermeture du flux de disponibilité du restaurant {} en échec : {}",
+              restaurantId, e.getMessage());
+        }
+      }
+    }
+  }
+}
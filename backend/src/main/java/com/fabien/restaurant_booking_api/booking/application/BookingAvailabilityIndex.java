@@ -0,0 +1,236 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index en mémoire des créneaux occupés par des réservations non annulées, sur la fenêtre de
+ * réservation (aujourd'hui à J+30).
+ * <p>
+ * Un tableau de bits par (restaurant, jour) : chaque table du restaurant reçoit un rang, et le bit
+ * {@code rang * nbCreneaux + creneau} indique si le créneau est pris. Les lectures ne prennent
+ * aucun verrou, les écritures passent par compareAndSet.
+ * <p>
+ * L'index est reconstruit depuis {@link BookingRepository} au démarrage ; tant qu'il n'est pas
+ * prêt, {@link #covers(LocalDate)} renvoie false et l'appelant doit interroger la base.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingAvailabilityIndex {
+
+  private static final int SLOT_COUNT = TimeSlotType.values().length;
+
+  private final BookingRepository bookingRepository;
+  private final DiningTableRepository diningTableRepository;
+
+  private final Map<Long, TablePosition> positions = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicInteger> nextRanks = new ConcurrentHashMap<>();
+  private final Map<DayKey, AtomicLongArray> days = new ConcurrentHashMap<>();
+
+  private volatile boolean ready;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    ready = false;
+    days.clear();
+
+    LocalDate today = LocalDate.now();
+    int count = 0;
+    for (Booking booking : bookingRepository.findByDateBetweenAndStatusNot(today,
+        today.plusDays(BookingService.BOOKING_WINDOW_DAYS), BookingStatus.CANCELED)) {
+      register(booking.getDiningTable());
+      markBooked(booking.getDiningTable().getId(), booking.getDate(), booking.getTimeSlotType());
+      count++;
+    }
+
+    ready = true;
+    log.info("Index de disponibilité reconstruit avec {} réservations", count);
+  }
+
+  @Scheduled(cron = "0 0 0 * * *")
+  public void evictExpiredDays() {
+    LocalDate today = LocalDate.now();
+    days.keySet().removeIf(key -> key.date().isBefore(today));
+  }
+
+  public boolean covers(LocalDate date) {
+    return ready && isInWindow(date);
+  }
+
+  public boolean isFree(Long tableId, LocalDate date, TimeSlotType slot) {
+    TablePosition position = positionOf(tableId);
+    if (position == null) {
+      return true;
+    }
+
+    AtomicLongArray bits = days.get(new DayKey(position.restaurantId(), date));
+    int bit = position.bitFor(slot);
+    int word = bit >>> 6;
+    if (bits == null || word >= bits.length()) {
+      return true;
+    }
+
+    return (bits.get(word) & (1L << bit)) == 0;
+  }
+
+  /**
+   * @return true si le créneau était libre et vient d'être marqué comme occupé
+   */
+  public boolean markBooked(Long tableId, LocalDate date, TimeSlotType slot) {
+    return update(tableId, date, slot, true);
+  }
+
+  /**
+   * @return true si le créneau était occupé et vient d'être libéré
+   */
+  public boolean release(Long tableId, LocalDate date, TimeSlotType slot) {
+    return update(tableId, date, slot, false);
+  }
+
+  /**
+   * @return restaurant de la table, ou null si la table n'existe pas
+   */
+  public Long restaurantIdOf(Long tableId) {
+    TablePosition position = positionOf(tableId);
+    return position == null ? null : position.restaurantId();
+  }
+
+  /**
+   * Oublie la position d'une table déplacée vers un autre restaurant ou supprimée : ses bits sont
+   * effacés dans le restaurant d'origine, puis ses réservations de la fenêtre sont rechargées sous
+   * sa nouvelle position. Le rang libéré n'est pas réattribué.
+   */
+  public void forget(Long tableId) {
+    TablePosition position = positions.remove(tableId);
+    if (position != null) {
+      days.forEach((key, bits) -> {
+        if (key.restaurantId().equals(position.restaurantId())) {
+          for (TimeSlotType slot : TimeSlotType.values()) {
+            clearBit(bits, position.bitFor(slot));
+          }
+        }
+      });
+    }
+
+    LocalDate today = LocalDate.now();
+    for (BookedSlot slot : bookingRepository.findBookedSlots(Set.of(tableId), today,
+        today.plusDays(BookingService.BOOKING_WINDOW_DAYS))) {
+      markBooked(slot.diningTableId(), slot.date(), slot.timeSlotType());
+    }
+  }
+
+  private boolean update(Long tableId, LocalDate date, TimeSlotType slot, boolean booked) {
+    if (!isInWindow(date)) {
+      return false;
+    }
+
+    TablePosition position = positionOf(tableId);
+    if (position == null) {
+      return false;
+    }
+
+    DayKey key = new DayKey(position.restaurantId(), date);
+    int bit = position.bitFor(slot);
+    int word = bit >>> 6;
+    long mask = 1L << bit;
+
+    while (true) {
+      AtomicLongArray bits = days.compute(key, (k, current) -> ensureCapacity(current, word));
+
+      long previous;
+      long next;
+      do {
+        previous = bits.get(word);
+        next = booked ? previous | mask : previous & ~mask;
+      } while (previous != next && !bits.compareAndSet(word, previous, next));
+
+      // Le tableau a pu être agrandi pendant l'écriture : on rejoue sur le nouveau
+      if (days.get(key) == bits) {
+        return previous != next;
+      }
+    }
+  }
+
+  private static void clearBit(AtomicLongArray bits, int bit) {
+    int word = bit >>> 6;
+    if (word >= bits.length()) {
+      return;
+    }
+
+    long mask = 1L << bit;
+    long previous;
+    do {
+      previous = bits.get(word);
+    } while ((previous & mask) != 0 && !bits.compareAndSet(word, previous, previous & ~mask));
+  }
+
+  private AtomicLongArray ensureCapacity(AtomicLongArray current, int word) {
+    if (current != null && word < current.length()) {
+      return current;
+    }
+
+    int length = Math.max(word + 1, current == null ? 1 : current.length() * 2);
+    AtomicLongArray grown = new AtomicLongArray(length);
+    if (current != null) {
+      for (int i = 0; i < current.length(); i++) {
+        grown.set(i, current.get(i));
+      }
+    }
+    return grown;
+  }
+
+  private boolean isInWindow(LocalDate date) {
+    LocalDate today = LocalDate.now();
+    return !date.isBefore(today) && !date.isAfter(
+        today.plusDays(BookingService.BOOKING_WINDOW_DAYS));
+  }
+
+  private TablePosition positionOf(Long tableId) {
+    TablePosition position = positions.get(tableId);
+    if (position != null) {
+      return position;
+    }
+
+    return diningTableRepository.findById(tableId)
+        .map(this::register)
+        .orElse(null);
+  }
+
+  private TablePosition register(DiningTable table) {
+    return positions.computeIfAbsent(table.getId(), id -> {
+      Long restaurantId = table.getRestaurant().getId();
+      int rank = nextRanks.computeIfAbsent(restaurantId, r -> new AtomicInteger())
+          .getAndIncrement();
+      return new TablePosition(restaurantId, rank);
+    });
+  }
+
+  private record TablePosition(Long restaurantId, int rank) {
+
+    int bitFor(TimeSlotType slot) {
+      return rank * SLOT_COUNT + slot.ordinal();
+    }
+  }
+
+  private record DayKey(Long restaurantId, LocalDate date) {
+
+  }
+}
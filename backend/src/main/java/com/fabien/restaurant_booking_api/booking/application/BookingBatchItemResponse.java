@@ -0,0 +1,10 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+public record BookingBatchItemResponse(
+    int index,
+    BookingBatchStatus status,
+    BookingResponse booking,
+    String error
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+
+/**
+ * Résultat d'une ligne d'import : la réservation créée, ou le motif du refus.
+ */
+public record BookingBatchOutcome(int index, BookingBatchStatus status, Booking booking,
+                                  String error) {
+
+  static BookingBatchOutcome created(int index, Booking booking) {
+    return new BookingBatchOutcome(index, BookingBatchStatus.CREATED, booking, null);
+  }
+
+  static BookingBatchOutcome conflict(int index, String error) {
+    return new BookingBatchOutcome(index, BookingBatchStatus.CONFLICT, null, error);
+  }
+
+  static BookingBatchOutcome rejected(int index, String error) {
+    return new BookingBatchOutcome(index, BookingBatchStatus.REJECTED, null, error);
+  }
+}
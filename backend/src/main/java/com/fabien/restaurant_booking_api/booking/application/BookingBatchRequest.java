@@ -0,0 +1,15 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BookingBatchRequest {
+
+  @NotEmpty(message = "La liste des réservations est obligatoire")
+  @Size(max = 1000, message = "Un import est limité à 1000 réservations")
+  private List<@Valid BookingRequest> bookings;
+}
@@ -0,0 +1,11 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import java.util.List;
+
+public record BookingBatchResponse(
+    long created,
+    long failed,
+    List<BookingBatchItemResponse> results
+) {
+
+}
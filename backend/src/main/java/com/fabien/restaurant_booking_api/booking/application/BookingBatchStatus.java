@@ -0,0 +1,7 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+public enum BookingBatchStatus {
+  CREATED,
+  CONFLICT,
+  REJECTED
+}
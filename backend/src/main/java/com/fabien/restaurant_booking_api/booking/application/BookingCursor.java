@@ -0,0 +1,52 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Clé de tri (date, id) de la liste des réservations, partagée par les lectures JPA et R2DBC pour
+ * qu'un même curseur soit accepté ou refusé de la même façon.
+ */
+record BookingCursor(LocalDate date, Long id) {
+
+  /**
+   * @return null pour la première page
+   */
+  static BookingCursor decode(String after) {
+    if (after == null) {
+      return null;
+    }
+    String[] keys = KeysetPagination.decodeCursor(after, 2);
+    return new BookingCursor(parseDate(keys[0]), parseId(keys[1]));
+  }
+
+  static String encode(BookingSummary booking) {
+    return KeysetPagination.encodeCursor(booking.date(), booking.id());
+  }
+
+  static LocalDate dateOf(BookingCursor cursor) {
+    return cursor == null ? null : cursor.date();
+  }
+
+  static Long idOf(BookingCursor cursor) {
+    return cursor == null ? null : cursor.id();
+  }
+
+  private static LocalDate parseDate(String value) {
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Le curseur de pagination est invalide");
+    }
+  }
+
+  private static Long parseId(String value) {
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Le curseur de pagination est invalide");
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.LocalDate;
+
+/**
+ * Contenu d'un événement de réservation : l'état de la réservation après la modification (avant
+ * la suppression pour {@link BookingEventType#DELETED}). Les associations ne sont transmises que
+ * par identifiant, les seules valeurs connues sans lecture supplémentaire à la création.
+ */
+public record BookingEvent(Long bookingId, Long diningTableId, Long customerId, LocalDate date,
+                           TimeSlotType timeSlotType, BookingStatus status) {
+
+  public static BookingEvent of(Booking booking) {
+    return new BookingEvent(booking.getId(), booking.getDiningTable().getId(),
+        booking.getCustomer().getId(), booking.getDate(), booking.getTimeSlotType(),
+        booking.getStatus());
+  }
+}
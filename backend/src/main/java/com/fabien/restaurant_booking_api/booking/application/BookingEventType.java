@@ -0,0 +1,10 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+/**
+ * Nature d'un événement de réservation publié via l'outbox.
+ */
+public enum BookingEventType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
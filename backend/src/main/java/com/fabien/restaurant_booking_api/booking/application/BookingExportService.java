@@ -0,0 +1,78 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Export des réservations en JSON délimité par des retours à la ligne (NDJSON).
+ * <p>
+ * Les lignes sont lues par curseur JDBC ({@link BookingRepository#streamForExport}) sous forme de
+ * projections, jamais attachées au contexte de persistance, et écrites au fil de l'eau : la mémoire
+ * reste constante quel que soit le volume exporté.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingExportService {
+
+  private final BookingRepository bookingRepository;
+  private final RestaurantService restaurantService;
+  private final ObjectMapper objectMapper;
+
+  public void validateFilters(LocalDate from, LocalDate to, Long restaurantId) {
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new IllegalArgumentException("La date de début doit précéder la date de fin");
+    }
+    if (restaurantId != null) {
+      restaurantService.validateExists(restaurantId);
+    }
+  }
+
+  /**
+   * @return le nombre de réservations exportées
+   */
+  @Transactional(readOnly = true)
+  public long export(LocalDate from, LocalDate to, Long restaurantId, OutputStream out) {
+    ObjectWriter writer = objectMapper.writerFor(BookingResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    long count = 0;
+
+    try (Stream<BookingSummary> bookings = bookingRepository.streamForExport(from, to,
+        restaurantId);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      // Jackson sépare par défaut les valeurs racines d'une espace, qui précéderait chaque ligne
+      generator.setRootValueSeparator(null);
+
+      Iterator<BookingSummary> iterator = bookings.iterator();
+      while (iterator.hasNext()) {
+        writer.writeValue(generator, BookingMapper.toResponse(iterator.next()));
+        generator.writeRaw('\n');
+
+        if (++count % BookingRepository.EXPORT_FETCH_SIZE == 0) {
+          generator.flush();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    log.info("Export de {} réservations terminé", count);
+    return count;
+  }
+}
@@ -1,7 +1,13 @@
 package com.fabien.restaurant_booking_api.booking.application;
 
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.customer.application.CustomerMapper;
+import com.fabien.restaurant_booking_api.customer.application.CustomerResponse;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.restaurant.application.RestaurantResponse;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 
 public class BookingMapper {
@@ -13,14 +19,48 @@ public class BookingMapper {
 
     return new BookingResponse(
         booking.getId(),
-        booking.getDiningTable(),
-        booking.getCustomer(),
+        DiningTableMapper.toResponse(booking.getDiningTable()),
+        CustomerMapper.toResponse(booking.getCustomer()),
         booking.getTimeSlotType(),
         booking.getDate(),
         booking.getStatus()
     );
   }
 
+  public static BookingResponse toResponse(BookingSummary summary) {
+    if (summary == null) {
+      return null;
+    }
+
+    RestaurantResponse restaurant = new RestaurantResponse(
+        summary.restaurantId(),
+        summary.restaurantName(),
+        summary.restaurantAddress(),
+        summary.restaurantPhoneNumber()
+    );
+    DiningTableResponse table = new DiningTableResponse(
+        summary.tableId(),
+        restaurant,
+        summary.tableCapacity(),
+        summary.tableStatus()
+    );
+    CustomerResponse customer = new CustomerResponse(
+        summary.customerId(),
+        summary.customerPhoneNumber(),
+        summary.customerEmail(),
+        summary.customerName()
+    );
+
+    return new BookingResponse(
+        summary.id(),
+        table,
+        customer,
+        summary.timeSlotType(),
+        summary.date(),
+        summary.status()
+    );
+  }
+
   public static Booking toEntity(BookingRequest request) {
     if (request == null) {
       return null;
@@ -49,4 +89,27 @@ public class BookingMapper {
 
     return booking;
   }
+
+  public static ReservationHoldResponse toHoldResponse(ReservationHold hold) {
+    if (hold == null) {
+      return null;
+    }
+
+    return new ReservationHoldResponse(
+        hold.token(),
+        hold.diningTableId(),
+        hold.timeSlotType(),
+        hold.date(),
+        hold.expiresAt()
+    );
+  }
+
+  public static BookingBatchItemResponse toBatchItemResponse(BookingBatchOutcome outcome) {
+    return new BookingBatchItemResponse(
+        outcome.index(),
+        outcome.status(),
+        toResponse(outcome.booking()),
+        outcome.error()
+    );
+  }
 }
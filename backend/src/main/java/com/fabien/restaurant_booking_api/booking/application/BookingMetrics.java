@@ -0,0 +1,32 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compteurs des issues de réservation, un par {@link BookingOutcome}, enregistrés au démarrage
+ * pour qu'une issue jamais rencontrée apparaisse à zéro plutôt que d'être absente du scrape.
+ */
+@Component
+public class BookingMetrics {
+
+  static final String OUTCOMES = "booking.outcomes";
+
+  private final Map<BookingOutcome, Counter> counters = new EnumMap<>(BookingOutcome.class);
+
+  public BookingMetrics(MeterRegistry registry) {
+    for (BookingOutcome outcome : BookingOutcome.values()) {
+      counters.put(outcome, Counter.builder(OUTCOMES)
+          .description("Tentatives de réservation par issue")
+          .tag("outcome", outcome.getTag())
+          .register(registry));
+    }
+  }
+
+  public void record(BookingOutcome outcome) {
+    counters.get(outcome).increment();
+  }
+}
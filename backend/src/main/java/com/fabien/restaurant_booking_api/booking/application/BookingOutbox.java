@@ -0,0 +1,47 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEvent;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Écrit les événements de réservation dans l'outbox. Exige une transaction en cours : celle qui
+ * écrit la réservation, pour que l'événement soit validé ou annulé avec elle.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOutbox {
+
+  static final String AGGREGATE_TYPE = "booking";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(BookingEventType type, Booking booking) {
+    outboxEventRepository.save(toEvent(type, booking));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(BookingEventType type, List<Booking> bookings) {
+    outboxEventRepository.saveAll(bookings.stream()
+        .map(booking -> toEvent(type, booking))
+        .toList());
+  }
+
+  private OutboxEvent toEvent(BookingEventType type, Booking booking) {
+    try {
+      return OutboxEvent.of(AGGREGATE_TYPE, booking.getId(), type.name(),
+          objectMapper.writeValueAsString(BookingEvent.of(booking)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Événement de réservation non sérialisable", e);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+/**
+ * Issue d'une tentative de réservation, valeur du tag {@code outcome} de la métrique
+ * {@value BookingMetrics#OUTCOMES}.
+ */
+public enum BookingOutcome {
+  CREATED("created"),
+  SLOT_CONFLICT("slot_conflict"),
+  DATE_OUT_OF_WINDOW("date_out_of_window"),
+  TABLE_NOT_FOUND("table_not_found"),
+  CUSTOMER_CONFLICT("customer_conflict");
+
+  private final String tag;
+
+  BookingOutcome(String tag) {
+    this.tag = tag;
+  }
+
+  public String getTag() {
+    return tag;
+  }
+}
@@ -26,4 +26,6 @@ public class BookingRequest {
   @NotNull(message = "Le statut est obligatoire")
   private BookingStatus status;
 
+  private String holdToken;
+
 }
\ No newline at end of file
@@ -2,11 +2,11 @@ package com.fabien.restaurant_booking_api.booking.application;
 
 import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
 import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
-import com.fabien.restaurant_booking_api.customer.domain.Customer;
-import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.customer.application.CustomerResponse;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
 import java.time.LocalDate;
 
-public record BookingResponse(Long id, DiningTable table, Customer customer,
+public record BookingResponse(Long id, DiningTableResponse table, CustomerResponse customer,
                               TimeSlotType timeSlotType, LocalDate date,
                               BookingStatus status) {
 
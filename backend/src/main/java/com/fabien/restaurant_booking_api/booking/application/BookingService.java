@@ -1,26 +1,72 @@
 package com.fabien.restaurant_booking_api.booking.application;
 
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
 import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.SlotOccupancy;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.customer.application.CustomerService;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import com.fabien.restaurant_booking_api.table.application.DiningTableService;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import jakarta.persistence.EntityNotFoundException;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
+  static final int BOOKING_WINDOW_DAYS = 30;
+
+  private static final String FOREIGN_KEY_VIOLATION = "23503";
+
   private final BookingRepository bookingRepository;
   private final CustomerService customerService;
   private final DiningTableService diningTableService;
+  private final BookingAvailabilityIndex availabilityIndex;
+  private final SlotLockManager slotLockManager;
+  private final ReservationHoldManager holdManager;
+  private final BookingMetrics bookingMetrics;
+  private final AvailabilityHub availabilityHub;
+  private final BookingOutbox bookingOutbox;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Réservations filtrées puis triées par (date, id).
+   *
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public KeysetPage<BookingSummary> findAll(BookingSearchCriteria criteria, String after,
+      Integer limit) {
+    Limit page = KeysetPagination.pageLimit(limit);
+    BookingCursor cursor = BookingCursor.decode(after);
 
-  public List<Booking> findAll() {
-    return bookingRepository.findAll();
+    List<BookingSummary> rows = bookingRepository.search(criteria, BookingCursor.dateOf(cursor),
+        BookingCursor.idOf(cursor), KeysetPagination.fetchLimit(page));
+    return KeysetPage.of(rows, page, BookingCursor::encode);
   }
 
   public Booking findById(Long id) {
@@ -29,37 +75,258 @@ public class BookingService {
   }
 
   public Booking create(Booking booking) {
+    return create(booking, null);
+  }
+
+  /**
+   * Insertion d'abord : la disponibilité du créneau et l'existence de la table sont arbitrées par
+   * PostgreSQL dans la requête d'insertion, sans lecture préalable. Seuls les contrôles en mémoire
+   * (holds, index de disponibilité) sont faits avant. Le client, la réservation et l'événement de
+   * l'outbox sont écrits dans une même transaction, validée avant la libération du verrou de
+   * créneau : une réservation refusée ne laisse aucun client créé ou modifié.
+   *
+   * @param holdToken réservation temporaire à convertir, ou null
+   */
+  public Booking create(Booking booking, String holdToken) {
+    validateBookingDate(booking.getDate());
 
-    Customer customer = handleCustomer(booking.getCustomer());
-    booking.setCustomer(customer);
+    Long diningTableId = booking.getDiningTable().getId();
+    return slotLockManager.withSlotLock(diningTableId, booking.getDate(),
+        booking.getTimeSlotType(), () -> {
+          if (holdToken != null) {
+            holdManager.validate(holdToken, diningTableId, booking.getDate(),
+                booking.getTimeSlotType());
+          }
+          if (occupiesSlot(booking)) {
+            validateNotHeld(booking, holdToken);
+            validateNotIndexedAsBooked(booking);
+          }
 
-    diningTableService.validateExists(booking.getDiningTable().getId());
+          transactionTemplate.executeWithoutResult(status -> {
+            booking.setCustomer(handleCustomer(booking.getCustomer()));
+            booking.setId(insert(booking));
+            bookingOutbox.append(BookingEventType.CREATED, booking);
+          });
+          markBooked(booking);
+          if (holdToken != null) {
+            holdManager.release(holdToken);
+          }
+          bookingMetrics.record(BookingOutcome.CREATED);
+          return booking;
+        });
+  }
+
+  public Booking update(Long id, Booking booking) {
+    Booking existing = findById(id);
 
+    DiningTable table = diningTableService.findById(booking.getDiningTable().getId());
+    booking.setDiningTable(table);
     validateBookingDate(booking.getDate());
-    validateTableAvailability(booking);
 
-    return bookingRepository.save(booking);
+    return slotLockManager.withSlotLock(table.getId(), booking.getDate(),
+        booking.getTimeSlotType(), () -> {
+          if (occupiesSlot(booking)) {
+            if (!isSameSlot(existing, booking)) {
+              validateNotHeld(booking, null);
+            }
+            validateTableAvailabilityForUpdate(existing, booking);
+          }
+
+          booking.setId(id);
+          Booking saved = transactionTemplate.execute(status -> {
+            booking.setCustomer(handleCustomer(booking.getCustomer()));
+            Booking merged = bookingRepository.save(booking);
+            bookingOutbox.append(BookingEventType.UPDATED, merged);
+            return merged;
+          });
+          // merge renvoie des proxys paresseux pour les associations : on reprend les entités
+          // déjà chargées pour que la réponse reste sérialisable hors transaction
+          saved.setDiningTable(table);
+          saved.setCustomer(booking.getCustomer());
+          if (!isSameSlot(existing, saved) || !occupiesSlot(saved)) {
+            release(existing);
+          }
+          markBooked(saved);
+          return saved;
+        });
   }
 
-  public Booking update(Long id, Booking booking) {
-    findById(id);
+  public void deleteById(Long id) {
+    Booking existing = findById(id);
+    transactionTemplate.executeWithoutResult(status -> {
+      bookingRepository.deleteById(id);
+      bookingOutbox.append(BookingEventType.DELETED, existing);
+    });
+    release(existing);
+  }
 
-    Customer customer = handleCustomer(booking.getCustomer());
-    booking.setCustomer(customer);
+  /**
+   * Création en masse : tables et clients sont vérifiés par lots (une requête chacun), puis les
+   * créneaux visés sont verrouillés ensemble le temps de contrôler les conflits et d'insérer. Les
+   * clients inconnus, les réservations (une requête {@code INSERT ... ON CONFLICT DO NOTHING} par
+   * tranche) et leurs événements d'outbox sont écrits dans une même transaction. Une ligne refusée,
+   * y compris par un conflit détecté à l'insertion, n'empêche pas l'insertion des autres.
+   */
+  public List<BookingBatchOutcome> createBatch(List<Booking> bookings) {
+    BookingBatchOutcome[] outcomes = new BookingBatchOutcome[bookings.size()];
 
-    diningTableService.validateExists(booking.getDiningTable().getId());
-    validateBookingDate(booking.getDate());
+    Set<Long> tableIds = bookings.stream()
+        .map(booking -> booking.getDiningTable().getId())
+        .collect(Collectors.toSet());
+    Set<Long> existingTableIds = diningTableService.findExistingIds(tableIds);
+
+    Set<Long> customerIds = bookings.stream()
+        .map(booking -> booking.getCustomer().getId())
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, Customer> customersById = customerService.findAllById(customerIds)
+        .stream()
+        .collect(Collectors.toMap(Customer::getId, Function.identity()));
 
-    validateTableAvailabilityForUpdate(id, booking);
+    List<Integer> valid = new ArrayList<>();
+    for (int i = 0; i < bookings.size(); i++) {
+      String error = validateBatchRow(bookings.get(i), existingTableIds, customersById);
+      if (error != null) {
+        outcomes[i] = BookingBatchOutcome.rejected(i, error);
+      } else {
+        valid.add(i);
+      }
+    }
 
-    booking.setId(id);
-    return bookingRepository.save(booking);
+    List<BookedSlot> slots = valid.stream()
+        .map(bookings::get)
+        .filter(this::occupiesSlot)
+        .map(BookingService::slotOf)
+        .toList();
+    slotLockManager.withSlotLocks(slots, () -> {
+      insertBatch(bookings, valid, existingTableIds, customersById, outcomes);
+      return null;
+    });
 
+    return Arrays.asList(outcomes);
   }
 
-  public void deleteById(Long id) {
-    findById(id);
-    bookingRepository.deleteById(id);
+  private void insertBatch(List<Booking> bookings, List<Integer> valid, Set<Long> tableIds,
+      Map<Long, Customer> customersById, BookingBatchOutcome[] outcomes) {
+    Set<BookedSlot> takenSlots = new HashSet<>(findBookedSlots(
+        valid.stream().map(bookings::get).toList(), tableIds));
+
+    List<Integer> accepted = new ArrayList<>();
+    for (Integer i : valid) {
+      Booking booking = bookings.get(i);
+      if (occupiesSlot(booking)) {
+        BookedSlot slot = slotOf(booking);
+        if (holdManager.isHeld(slot.diningTableId(), slot.date(), slot.timeSlotType(), null)) {
+          bookingMetrics.record(BookingOutcome.SLOT_CONFLICT);
+          outcomes[i] = BookingBatchOutcome.conflict(i,
+              "Cette table est temporairement retenue pour ce créneau");
+          continue;
+        }
+        if (!takenSlots.add(slot)) {
+          bookingMetrics.record(BookingOutcome.SLOT_CONFLICT);
+          outcomes[i] = BookingBatchOutcome.conflict(i,
+              "Cette table est déjà réservée pour ce créneau");
+          continue;
+        }
+      }
+      accepted.add(i);
+    }
+    if (accepted.isEmpty()) {
+      return;
+    }
+
+    Set<Long> insertedIds = transactionTemplate.execute(status -> {
+      List<Customer> newCustomers = accepted.stream()
+          .map(i -> bookings.get(i).getCustomer())
+          .filter(customer -> customer.getId() == null)
+          .toList();
+      Map<String, Customer> customersByPhone = customerService.findOrCreateByPhoneNumber(
+          newCustomers);
+
+      List<Booking> toInsert = new ArrayList<>();
+      for (Integer i : accepted) {
+        Booking booking = bookings.get(i);
+        Customer customer = booking.getCustomer();
+        booking.setCustomer(customer.getId() != null
+            ? customersById.get(customer.getId())
+            : customersByPhone.get(customer.getPhoneNumber()));
+        toInsert.add(booking);
+      }
+
+      // Une réservation concurrente hors de ce processus peut encore occuper un créneau
+      Set<Long> ids = bookingRepository.insertAllIfSlotFree(toInsert);
+      bookingOutbox.appendAll(BookingEventType.CREATED, toInsert.stream()
+          .filter(booking -> ids.contains(booking.getId()))
+          .toList());
+      return ids;
+    });
+
+    for (Integer i : accepted) {
+      Booking booking = bookings.get(i);
+      if (insertedIds.contains(booking.getId())) {
+        outcomes[i] = BookingBatchOutcome.created(i, booking);
+        markBooked(booking);
+        bookingMetrics.record(BookingOutcome.CREATED);
+      } else {
+        booking.setId(null);
+        bookingMetrics.record(BookingOutcome.SLOT_CONFLICT);
+        outcomes[i] = BookingBatchOutcome.conflict(i,
+            "Cette table est déjà réservée pour ce créneau");
+      }
+    }
+  }
+
+  /**
+   * Un hold n'est pas une tentative de réservation : ses refus ne sont pas comptés dans
+   * {@code booking.outcomes}, seule la conversion en réservation l'est.
+   */
+  public ReservationHold placeHold(Long diningTableId, LocalDate date, TimeSlotType timeSlotType) {
+    diningTableService.validateExists(diningTableId);
+    String dateError = bookingDateError(date);
+    if (dateError != null) {
+      throw new IllegalArgumentException(dateError);
+    }
+
+    return slotLockManager.withSlotLock(diningTableId, date, timeSlotType, () -> {
+      validateTableNotBooked(diningTableId, date, timeSlotType);
+      return holdManager.place(diningTableId, date, timeSlotType);
+    });
+  }
+
+  public void releaseHold(String token) {
+    holdManager.release(token);
+  }
+
+  public List<DiningTable> findFreeTables(Long restaurantId, LocalDate date,
+      TimeSlotType timeSlotType, Integer partySize) {
+    return diningTableService.findFreeTables(restaurantId, date, timeSlotType, partySize)
+        .stream()
+        .filter(table -> !holdManager.isHeld(table.getId(), date, timeSlotType, null))
+        .toList();
+  }
+
+  public List<AvailabilityCalendarEntry> getCalendar(Long restaurantId) {
+    long totalTables = diningTableService.countAvailableByRestaurantId(restaurantId);
+
+    LocalDate today = LocalDate.now();
+    LocalDate maxDate = today.plusDays(BOOKING_WINDOW_DAYS);
+
+    Map<LocalDate, Map<TimeSlotType, Long>> bookedByDate = new HashMap<>();
+    for (SlotOccupancy occupancy : bookingRepository.countBookedTablesByRestaurant(restaurantId,
+        today, maxDate)) {
+      bookedByDate.computeIfAbsent(occupancy.date(), d -> new HashMap<>())
+          .put(occupancy.timeSlotType(), occupancy.bookedTables());
+    }
+
+    List<AvailabilityCalendarEntry> calendar = new ArrayList<>();
+    for (LocalDate date = today; !date.isAfter(maxDate); date = date.plusDays(1)) {
+      Map<TimeSlotType, Long> booked = bookedByDate.getOrDefault(date, Map.of());
+      for (TimeSlotType slot : TimeSlotType.values()) {
+        long free = Math.max(0, totalTables - booked.getOrDefault(slot, 0L));
+        calendar.add(new AvailabilityCalendarEntry(date, slot, free, totalTables));
+      }
+    }
+    return calendar;
   }
 
   private Customer handleCustomer(Customer customer) {
@@ -67,46 +334,202 @@ public class BookingService {
       return customerService.findById(customer.getId());
     }
 
-    return customerService.create(customer);
+    try {
+      return customerService.upsertByPhoneNumber(customer);
+    } catch (DataIntegrityViolationException e) {
+      bookingMetrics.record(BookingOutcome.CUSTOMER_CONFLICT);
+      throw e;
+    }
   }
 
   private void validateBookingDate(LocalDate bookingDate) {
+    String error = bookingDateError(bookingDate);
+    if (error != null) {
+      bookingMetrics.record(BookingOutcome.DATE_OUT_OF_WINDOW);
+      throw new IllegalArgumentException(error);
+    }
+  }
+
+  /**
+   * @return le motif du refus, ou null si la date est dans la fenêtre de réservation
+   */
+  private static String bookingDateError(LocalDate bookingDate) {
     LocalDate today = LocalDate.now();
-    LocalDate maxDate = today.plusDays(30);
+    LocalDate maxDate = today.plusDays(BOOKING_WINDOW_DAYS);
 
     if (bookingDate.isBefore(today)) {
-      throw new IllegalArgumentException("La date de réservation ne peut pas être dans le passé");
+      return "La date de réservation ne peut pas être dans le passé";
     }
 
     if (bookingDate.isAfter(maxDate)) {
-      throw new IllegalArgumentException(
-          "Les réservations ne sont possibles que 30 jours à l'avance maximum");
+      return "Les réservations ne sont possibles que 30 jours à l'avance maximum";
     }
+    return null;
   }
 
-  //TODO : ACTUELLEMENT NE PREND PAS EN COMPTE LE STATUT DE LA RESERVATION (SI RESA CANCELED IMPOSSIBLE DE QUAND MEME RESA
-  private void validateTableAvailability(Booking booking) {
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
-        booking.getDiningTable().getId(),
-        booking.getDate(),
-        booking.getTimeSlotType()
-    );
+  private List<BookedSlot> findBookedSlots(List<Booking> bookings, Set<Long> tableIds) {
+    if (tableIds.isEmpty()) {
+      return List.of();
+    }
+
+    LocalDate from = bookings.stream().map(Booking::getDate).min(Comparator.naturalOrder())
+        .orElseThrow();
+    LocalDate to = bookings.stream().map(Booking::getDate).max(Comparator.naturalOrder())
+        .orElseThrow();
+    return bookingRepository.findBookedSlots(tableIds, from, to);
+  }
+
+  private String validateBatchRow(Booking booking, Set<Long> existingTableIds,
+      Map<Long, Customer> customersById) {
+    try {
+      validateBookingDate(booking.getDate());
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+
+    Long tableId = booking.getDiningTable().getId();
+    if (!existingTableIds.contains(tableId)) {
+      bookingMetrics.record(BookingOutcome.TABLE_NOT_FOUND);
+      return "Table not found with id : " + tableId;
+    }
+
+    Customer customer = booking.getCustomer();
+    if (customer.getId() != null && !customersById.containsKey(customer.getId())) {
+      return "Customer not found with id : " + customer.getId();
+    }
+    if (customer.getId() == null
+        && (customer.getPhoneNumber() == null || customer.getPhoneNumber().isBlank())) {
+      return "Le numéro de téléphone est obligatoire";
+    }
+
+    return null;
+  }
+
+  private void validateNotHeld(Booking booking, String holdToken) {
+    if (holdManager.isHeld(booking.getDiningTable().getId(), booking.getDate(),
+        booking.getTimeSlotType(), holdToken)) {
+      throw slotConflict("Cette table est temporairement retenue pour ce créneau");
+    }
+  }
+
+  private void validateTableNotBooked(Long diningTableId, LocalDate date,
+      TimeSlotType timeSlotType) {
+    boolean exists;
+    if (availabilityIndex.covers(date)) {
+      exists = !availabilityIndex.isFree(diningTableId, date, timeSlotType);
+    } else {
+      exists = bookingRepository.existsActiveBooking(
+          diningTableId,
+          date,
+          timeSlotType
+      );
+    }
 
     if (exists) {
       throw new IllegalArgumentException("Cette table est déjà réservée pour ce créneau");
     }
   }
 
-  private void validateTableAvailabilityForUpdate(Long bookingId, Booking booking) {
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(
-        booking.getDiningTable().getId(),
-        booking.getDate(),
-        booking.getTimeSlotType(),
-        bookingId
-    );
+  private void validateNotIndexedAsBooked(Booking booking) {
+    if (availabilityIndex.covers(booking.getDate()) && !availabilityIndex.isFree(
+        booking.getDiningTable().getId(), booking.getDate(), booking.getTimeSlotType())) {
+      throw slotConflict("Cette table est déjà réservée pour ce créneau");
+    }
+  }
+
+  private Long insert(Booking booking) {
+    try {
+      return bookingRepository.insertIfSlotFree(booking)
+          .orElseThrow(() -> slotConflict("Cette table est déjà réservée pour ce créneau"));
+    } catch (DataIntegrityViolationException e) {
+      // Le client vient d'être lu ou créé : seule la table peut manquer
+      if (isForeignKeyViolation(e)) {
+        bookingMetrics.record(BookingOutcome.TABLE_NOT_FOUND);
+        throw new EntityNotFoundException(
+            "Table not found with id : " + booking.getDiningTable().getId());
+      }
+      throw e;
+    }
+  }
+
+  private IllegalArgumentException slotConflict(String message) {
+    bookingMetrics.record(BookingOutcome.SLOT_CONFLICT);
+    return new IllegalArgumentException(message);
+  }
+
+  private boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+    return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+        && FOREIGN_KEY_VIOLATION.equals(sqlException.getSQLState());
+  }
+
+  private void validateTableAvailabilityForUpdate(Booking existing, Booking booking) {
+    boolean exists;
+    if (availabilityIndex.covers(booking.getDate())) {
+      exists = !(isSameSlot(existing, booking) && occupiesSlot(existing))
+          && !availabilityIndex.isFree(
+          booking.getDiningTable().getId(),
+          booking.getDate(),
+          booking.getTimeSlotType()
+      );
+    } else {
+      exists = bookingRepository.existsActiveBookingExcludingId(
+          booking.getDiningTable().getId(),
+          booking.getDate(),
+          booking.getTimeSlotType(),
+          existing.getId()
+      );
+    }
 
     if (exists) {
-      throw new IllegalArgumentException("Cette table est déjà réservée pour ce créneau");
+      throw slotConflict("Cette table est déjà réservée pour ce créneau");
+    }
+  }
+
+  private boolean occupiesSlot(Booking booking) {
+    return booking.getStatus() != BookingStatus.CANCELED;
+  }
+
+  private boolean isSameSlot(Booking existing, Booking booking) {
+    return existing.getDiningTable().getId().equals(booking.getDiningTable().getId())
+        && existing.getDate().equals(booking.getDate())
+        && existing.getTimeSlotType() == booking.getTimeSlotType();
+  }
+
+  private static BookedSlot slotOf(Booking booking) {
+    return new BookedSlot(booking.getDiningTable().getId(), booking.getDate(),
+        booking.getTimeSlotType());
+  }
+
+  private void markBooked(Booking booking) {
+    if (!occupiesSlot(booking)) {
+      return;
+    }
+    if (availabilityIndex.markBooked(booking.getDiningTable().getId(), booking.getDate(),
+        booking.getTimeSlotType())) {
+      publishChange(booking, false);
+    }
+  }
+
+  private void release(Booking booking) {
+    if (!occupiesSlot(booking)) {
+      return;
+    }
+    if (availabilityIndex.release(booking.getDiningTable().getId(), booking.getDate(),
+        booking.getTimeSlotType())) {
+      publishChange(booking, true);
+    }
+  }
+
+  /**
+   * Appelé seulement quand l'index a réellement changé d'état : une mise à jour qui garde le même
+   * créneau ne produit aucun événement.
+   */
+  private void publishChange(Booking booking, boolean free) {
+    Long diningTableId = booking.getDiningTable().getId();
+    Long restaurantId = availabilityIndex.restaurantIdOf(diningTableId);
+    if (restaurantId != null) {
+      availabilityHub.publish(new AvailabilityChange(restaurantId, diningTableId,
+          booking.getDate(), booking.getTimeSlotType(), free));
     }
   }
 }
@@ -0,0 +1,63 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.ReactiveBookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
+import com.fabien.restaurant_booking_api.table.application.ReactiveDiningTableService;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectures de {@link BookingService} en non bloquant : même validation de la limite et du curseur,
+ * mêmes erreurs, et les tables retenues par une réservation temporaire restent exclues des
+ * disponibilités.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveBookingService {
+
+  private final ReactiveBookingRepository bookingRepository;
+  private final ReactiveDiningTableService diningTableService;
+  private final ReservationHoldManager holdManager;
+
+  /**
+   * Réservations filtrées puis triées par (date, id).
+   *
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public Mono<KeysetPage<BookingSummary>> findAll(BookingSearchCriteria criteria, String after,
+      Integer limit) {
+    return Mono.defer(() -> {
+      Limit page = KeysetPagination.pageLimit(limit);
+      BookingCursor cursor = BookingCursor.decode(after);
+      return bookingRepository.search(criteria, BookingCursor.dateOf(cursor),
+              BookingCursor.idOf(cursor), KeysetPagination.fetchLimit(page))
+          .collectList()
+          .map(rows -> KeysetPage.of(rows, page, BookingCursor::encode));
+    });
+  }
+
+  public Mono<BookingSummary> findById(Long id) {
+    return bookingRepository.findSummaryById(id)
+        .switchIfEmpty(Mono.error(
+            () -> new EntityNotFoundException("Booking not found with id : " + id)));
+  }
+
+  public Flux<DiningTable> findFreeTables(Long restaurantId, LocalDate date,
+      TimeSlotType timeSlotType, Integer partySize) {
+    return diningTableService.findFreeTables(restaurantId, date, timeSlotType, partySize)
+        .filter(table -> !holdManager.isHeld(table.getId(), date, timeSlotType, null));
+  }
+}
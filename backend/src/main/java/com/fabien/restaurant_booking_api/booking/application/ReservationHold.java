@@ -0,0 +1,25 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ReservationHold(
+    String token,
+    Long diningTableId,
+    LocalDate date,
+    TimeSlotType timeSlotType,
+    Instant expiresAt,
+    long deadlineTick
+) {
+
+  boolean isExpired(Instant now) {
+    return !expiresAt.isAfter(now);
+  }
+
+  boolean matches(Long diningTableId, LocalDate date, TimeSlotType timeSlotType) {
+    return this.diningTableId.equals(diningTableId)
+        && this.date.equals(date)
+        && this.timeSlotType == timeSlotType;
+  }
+}
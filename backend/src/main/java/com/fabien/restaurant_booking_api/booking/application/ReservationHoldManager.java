@@ -0,0 +1,136 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Réservations temporaires (holds) conservées uniquement en mémoire.
+ * <p>
+ * Un hold bloque un créneau (table, date, créneau horaire) le temps que le client remplisse le
+ * formulaire. L'expiration passe par une roue temporelle hachée : chaque hold est rangé dans le
+ * seau de son tick d'échéance, et {@link #tick()} ne parcourt que le seau courant. Un hold dont
+ * l'heure d'expiration est dépassée est de toute façon ignoré, même si la roue ne l'a pas encore
+ * purgé.
+ */
+@Component
+public class ReservationHoldManager {
+
+  private final Duration ttl;
+  private final long ttlTicks;
+  private final Set<String>[] wheel;
+  private final AtomicLong currentTick = new AtomicLong();
+
+  private final Map<String, ReservationHold> holdsByToken = new ConcurrentHashMap<>();
+  private final Map<SlotKey, String> tokensBySlot = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  public ReservationHoldManager(@Value("${booking.hold.ttl-seconds:300}") long ttlSeconds,
+      @Value("${booking.hold.tick-ms:1000}") long tickMillis,
+      @Value("${booking.hold.wheel-size:512}") int wheelSize) {
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.ttlTicks = Math.max(1, (ttl.toMillis() + tickMillis - 1) / tickMillis);
+
+    int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.wheel = new Set[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = ConcurrentHashMap.newKeySet();
+    }
+  }
+
+  public ReservationHold place(Long diningTableId, LocalDate date, TimeSlotType timeSlotType) {
+    SlotKey key = new SlotKey(diningTableId, date, timeSlotType);
+    long deadlineTick = currentTick.get() + ttlTicks;
+    ReservationHold hold = new ReservationHold(UUID.randomUUID().toString(), diningTableId, date,
+        timeSlotType, Instant.now().plus(ttl), deadlineTick);
+
+    holdsByToken.put(hold.token(), hold);
+    String owner = tokensBySlot.compute(key, (k, current) -> {
+      if (current != null && isActive(current)) {
+        return current;
+      }
+      if (current != null) {
+        holdsByToken.remove(current);
+      }
+      return hold.token();
+    });
+
+    if (!owner.equals(hold.token())) {
+      holdsByToken.remove(hold.token());
+      throw new IllegalArgumentException("Cette table est temporairement retenue pour ce créneau");
+    }
+
+    wheel[bucketIndex(deadlineTick)].add(hold.token());
+    return hold;
+  }
+
+  /**
+   * @param allowedToken hold du demandeur, qui ne doit pas le bloquer lui-même (peut être null)
+   */
+  public boolean isHeld(Long diningTableId, LocalDate date, TimeSlotType timeSlotType,
+      String allowedToken) {
+    String token = tokensBySlot.get(new SlotKey(diningTableId, date, timeSlotType));
+    return token != null && !token.equals(allowedToken) && isActive(token);
+  }
+
+  public ReservationHold validate(String token, Long diningTableId, LocalDate date,
+      TimeSlotType timeSlotType) {
+    ReservationHold hold = holdsByToken.get(token);
+    if (hold == null || hold.isExpired(Instant.now())
+        || !hold.matches(diningTableId, date, timeSlotType)) {
+      throw new IllegalArgumentException("La réservation temporaire est invalide ou expirée");
+    }
+    return hold;
+  }
+
+  public void release(String token) {
+    ReservationHold hold = holdsByToken.remove(token);
+    if (hold != null) {
+      tokensBySlot.remove(new SlotKey(hold.diningTableId(), hold.date(), hold.timeSlotType()),
+          token);
+    }
+  }
+
+  @Scheduled(fixedRateString = "${booking.hold.tick-ms:1000}")
+  public void tick() {
+    long tick = currentTick.incrementAndGet();
+    wheel[bucketIndex(tick)].removeIf(token -> {
+      ReservationHold hold = holdsByToken.get(token);
+      if (hold == null) {
+        return true;
+      }
+      if (hold.deadlineTick() <= tick) {
+        release(token);
+        return true;
+      }
+      // Échéance dans un tour ultérieur de la roue
+      return false;
+    });
+  }
+
+  public int activeHolds() {
+    return holdsByToken.size();
+  }
+
+  private boolean isActive(String token) {
+    ReservationHold hold = holdsByToken.get(token);
+    return hold != null && !hold.isExpired(Instant.now());
+  }
+
+  private int bucketIndex(long tick) {
+    return (int) (tick & (wheel.length - 1));
+  }
+
+  private record SlotKey(Long diningTableId, LocalDate date, TimeSlotType timeSlotType) {
+
+  }
+}
@@ -0,0 +1,19 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.Data;
+
+@Data
+public class ReservationHoldRequest {
+
+  @NotNull(message = "L'identifiant de la table est obligatoire")
+  private Long diningTableId;
+
+  @NotNull(message = "Le créneau horaire est obligatoire")
+  private TimeSlotType timeSlotType;
+
+  @NotNull(message = "La date est obligatoire")
+  private LocalDate date;
+}
@@ -0,0 +1,15 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ReservationHoldResponse(
+    String token,
+    Long diningTableId,
+    TimeSlotType timeSlotType,
+    LocalDate date,
+    Instant expiresAt
+) {
+
+}
@@ -0,0 +1,142 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verrous striés par créneau (table, date, créneau horaire).
+ * <p>
+ * Sérialise la séquence vérification de disponibilité + insertion pour un même créneau, afin que
+ * deux réservations simultanées ne finissent pas sur la contrainte unique. Deux créneaux
+ * différents peuvent partager un verrou (même stripe) : c'est le prix d'une mémoire bornée.
+ * <p>
+ * Chaque attente sur un verrou déjà pris est enregistrée dans le timer {@value #WAIT}, dont
+ * l'histogramme donne les percentiles d'attente plutôt qu'un cumul et un maximum historique.
+ */
+@Component
+public class SlotLockManager {
+
+  static final String WAIT = "booking.slot.lock.wait";
+
+  private final ReentrantLock[] stripes;
+  private final long timeoutNanos;
+
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder contentions = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final Timer waits;
+
+  public SlotLockManager(@Value("${booking.lock.stripes:64}") int stripeCount,
+      @Value("${booking.lock.timeout-ms:2000}") long timeoutMillis, MeterRegistry registry) {
+    int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.waits = Timer.builder(WAIT)
+        .description("Attente d'un verrou de créneau déjà pris, obtenu ou abandonné")
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  public <T> T withSlotLock(Long tableId, LocalDate date, TimeSlotType slot, Supplier<T> action) {
+    ReentrantLock lock = stripeFor(tableId, date, slot);
+    acquire(lock);
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Verrouille plusieurs créneaux à la fois. Les stripes sont prises dans l'ordre de leur indice,
+   * de sorte que deux appels concurrents sur des créneaux qui se recouvrent ne s'interbloquent
+   * pas ; une stripe partagée par plusieurs créneaux n'est prise qu'une fois.
+   */
+  public <T> T withSlotLocks(Collection<BookedSlot> slots, Supplier<T> action) {
+    int[] indexes = slots.stream()
+        .mapToInt(slot -> stripeIndex(slot.diningTableId(), slot.date(), slot.timeSlotType()))
+        .distinct()
+        .sorted()
+        .toArray();
+
+    Deque<ReentrantLock> held = new ArrayDeque<>(indexes.length);
+    try {
+      for (int index : indexes) {
+        acquire(stripes[index]);
+        held.push(stripes[index]);
+      }
+      return action.get();
+    } finally {
+      while (!held.isEmpty()) {
+        held.pop().unlock();
+      }
+    }
+  }
+
+  private void acquire(ReentrantLock lock) {
+    if (lock.tryLock()) {
+      acquisitions.increment();
+      return;
+    }
+
+    contentions.increment();
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    if (!acquired) {
+      timeouts.increment();
+      throw new IllegalArgumentException(
+          "Ce créneau est en cours de réservation, veuillez réessayer");
+    }
+    acquisitions.increment();
+  }
+
+  private ReentrantLock stripeFor(Long tableId, LocalDate date, TimeSlotType slot) {
+    return stripes[stripeIndex(tableId, date, slot)];
+  }
+
+  private int stripeIndex(Long tableId, LocalDate date, TimeSlotType slot) {
+    int hash = Objects.hash(tableId, date, slot.ordinal());
+    hash ^= (hash >>> 16);
+    return hash & (stripes.length - 1);
+  }
+
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+  public long getAcquisitions() {
+    return acquisitions.sum();
+  }
+
+  public long getContentions() {
+    return contentions.sum();
+  }
+
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+}
@@ -0,0 +1,7 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.time.LocalDate;
+
+public record BookedSlot(Long diningTableId, LocalDate date, TimeSlotType timeSlotType) {
+
+}
@@ -1,37 +1,45 @@
 package com.fabien.restaurant_booking_api.booking.domain;
 
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.shared.persistence.PooledSequence;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.Data;
 
+/**
+ * L'unicité (table, date, créneau) ne porte que sur les réservations non annulées : elle est
+ * assurée par l'index unique partiel {@code uk_bookings_active_slot} créé dans schema.sql.
+ * L'index (date, table) sert les recherches par période, éventuellement restreintes à un
+ * restaurant.
+ * <p>
+ * Les associations sont paresseuses : les méthodes de {@link BookingRepository} qui en ont besoin
+ * déclarent leur plan de chargement.
+ */
 @Entity
-@Table(name = "bookings",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"dining_table_id", "date",
-        "time_slot_type"}
-    ))
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_date_table", columnList = "date, dining_table_id")
+})
 @Data
 public class Booking {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledSequence(name = "bookings_seq")
   private Long id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "dining_table_id")
   private DiningTable diningTable;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "customer_id")
   private Customer customer;
 
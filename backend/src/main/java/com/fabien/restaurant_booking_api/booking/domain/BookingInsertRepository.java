@@ -0,0 +1,34 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Création d'une réservation en un seul aller-retour : l'insertion est arbitrée directement par
+ * l'index unique partiel {@code uk_bookings_active_slot}, sans vérification préalable.
+ */
+public interface BookingInsertRepository {
+
+  /**
+   * Lignes par requête d'insertion multiple, soit le batch JDBC configuré.
+   */
+  int INSERT_CHUNK_SIZE = 50;
+
+  /**
+   * Insère la réservation sauf si une réservation active occupe déjà le créneau. Une table ou un
+   * client inexistant remonte en violation de clé étrangère.
+   *
+   * @return l'identifiant attribué, ou vide si le créneau est déjà pris
+   */
+  Optional<Long> insertIfSlotFree(Booking booking);
+
+  /**
+   * Insère les réservations par requêtes de {@value #INSERT_CHUNK_SIZE} lignes, en écartant celles
+   * dont le créneau est déjà pris par une réservation active. Chaque réservation reçoit son
+   * identifiant avant l'insertion, qu'elle soit retenue ou non.
+   *
+   * @return les identifiants des réservations effectivement insérées
+   */
+  Set<Long> insertAllIfSlotFree(List<Booking> bookings);
+}
@@ -1,20 +1,118 @@
 package com.fabien.restaurant_booking_api.booking.domain;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-  
-  boolean existsByDiningTableIdAndDateAndTimeSlotType(
-      Long diningTableId,
-      LocalDate date,
-      TimeSlotType timeSlotType
+/**
+ * Les requêtes de disponibilité ignorent les réservations annulées, comme l'index unique partiel
+ * {@code uk_bookings_active_slot} (voir schema.sql).
+ * <p>
+ * Les associations de {@link Booking} sont paresseuses : chaque méthode qui renvoie des entités
+ * précise ce qu'elle charge avec, les listes passent par des projections.
+ */
+public interface BookingRepository extends JpaRepository<Booking, Long>,
+    BookingSearchRepository, BookingInsertRepository {
+
+  int EXPORT_FETCH_SIZE = 500;
+
+  @Override
+  @EntityGraph(attributePaths = {"diningTable", "diningTable.restaurant", "customer"})
+  Optional<Booking> findById(Long id);
+
+  @Query("""
+      SELECT COUNT(b) > 0 FROM Booking b
+      WHERE b.diningTable.id = :diningTableId
+        AND b.date = :date
+        AND b.timeSlotType = :timeSlotType
+        AND b.status <> com.fabien.restaurant_booking_api.booking.domain.BookingStatus.CANCELED
+      """)
+  boolean existsActiveBooking(
+      @Param("diningTableId") Long diningTableId,
+      @Param("date") LocalDate date,
+      @Param("timeSlotType") TimeSlotType timeSlotType
+  );
+
+  @Query("""
+      SELECT COUNT(b) > 0 FROM Booking b
+      WHERE b.diningTable.id = :diningTableId
+        AND b.date = :date
+        AND b.timeSlotType = :timeSlotType
+        AND b.id <> :id
+        AND b.status <> com.fabien.restaurant_booking_api.booking.domain.BookingStatus.CANCELED
+      """)
+  boolean existsActiveBookingExcludingId(
+      @Param("diningTableId") Long diningTableId,
+      @Param("date") LocalDate date,
+      @Param("timeSlotType") TimeSlotType timeSlotType,
+      @Param("id") Long id
+  );
+
+  /**
+   * Parcours en curseur JDBC pour l'export : à consommer dans une transaction et à fermer.
+   * Les bornes et le restaurant sont facultatifs (null = pas de filtre).
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+  @Query("""
+      SELECT new com.fabien.restaurant_booking_api.booking.domain.BookingSummary(
+        b.id, b.date, b.timeSlotType, b.status,
+        t.id, t.capacity, t.status,
+        r.id, r.name, r.address, r.phoneNumber,
+        c.id, c.name, c.email, c.phoneNumber)
+      FROM Booking b
+      JOIN b.diningTable t
+      JOIN t.restaurant r
+      JOIN b.customer c
+      WHERE (:from IS NULL OR b.date >= :from)
+        AND (:to IS NULL OR b.date <= :to)
+        AND (:restaurantId IS NULL OR r.id = :restaurantId)
+      ORDER BY b.date, b.id
+      """)
+  Stream<BookingSummary> streamForExport(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("restaurantId") Long restaurantId
+  );
+
+  @EntityGraph(attributePaths = "diningTable")
+  List<Booking> findByDateBetweenAndStatusNot(LocalDate from, LocalDate to, BookingStatus status);
+
+  @Query("""
+      SELECT new com.fabien.restaurant_booking_api.booking.domain.SlotOccupancy(
+        b.date, b.timeSlotType, COUNT(b))
+      FROM Booking b JOIN b.diningTable t
+      WHERE t.restaurant.id = :restaurantId
+        AND t.status = com.fabien.restaurant_booking_api.table.domain.DiningTableStatus.AVAILABLE
+        AND b.status <> com.fabien.restaurant_booking_api.booking.domain.BookingStatus.CANCELED
+        AND b.date BETWEEN :from AND :to
+      GROUP BY b.date, b.timeSlotType
+      """)
+  List<SlotOccupancy> countBookedTablesByRestaurant(
+      @Param("restaurantId") Long restaurantId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to
   );
 
-  boolean existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(
-      Long diningTableId,
-      LocalDate date,
-      TimeSlotType timeSlotType,
-      Long id
+  @Query("""
+      SELECT new com.fabien.restaurant_booking_api.booking.domain.BookedSlot(
+        b.diningTable.id, b.date, b.timeSlotType)
+      FROM Booking b
+      WHERE b.diningTable.id IN :diningTableIds
+        AND b.date BETWEEN :from AND :to
+        AND b.status <> com.fabien.restaurant_booking_api.booking.domain.BookingStatus.CANCELED
+      """)
+  List<BookedSlot> findBookedSlots(
+      @Param("diningTableIds") Collection<Long> diningTableIds,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to
   );
 }
@@ -0,0 +1,20 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Filtres facultatifs de la liste des réservations : un champ null ne filtre pas.
+ */
+public record BookingSearchCriteria(Long restaurantId, LocalDate from, LocalDate to,
+                                    BookingStatus status, TimeSlotType timeSlotType) {
+
+  public BookingSearchCriteria {
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new IllegalArgumentException("La date de début doit précéder la date de fin");
+    }
+  }
+
+  public static BookingSearchCriteria none() {
+    return new BookingSearchCriteria(null, null, null, null, null);
+  }
+}
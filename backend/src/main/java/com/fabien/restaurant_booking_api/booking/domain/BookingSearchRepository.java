@@ -0,0 +1,21 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Recherche multicritère : seuls les filtres renseignés apparaissent dans la requête SQL, pour
+ * que PostgreSQL puisse s'appuyer sur les index composites {@code idx_bookings_date_table} et
+ * {@code idx_dining_tables_restaurant}.
+ */
+public interface BookingSearchRepository {
+
+  /**
+   * Réservations triées par (date, id), à partir de la clé ({@code afterDate}, {@code afterId})
+   * exclue, ou depuis le début si {@code afterDate} est null. Le résultat est une projection : rien
+   * n'est chargé dans le contexte de persistance.
+   */
+  List<BookingSummary> search(BookingSearchCriteria criteria, LocalDate afterDate, Long afterId,
+      Limit limit);
+}
@@ -0,0 +1,29 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import java.time.LocalDate;
+
+/**
+ * Projection en lecture seule d'une réservation avec sa table, son restaurant et son client :
+ * exactement les colonnes d'une liste de réservations, sans entité gérée par le contexte de
+ * persistance.
+ */
+public record BookingSummary(
+    Long id,
+    LocalDate date,
+    TimeSlotType timeSlotType,
+    BookingStatus status,
+    Long tableId,
+    Integer tableCapacity,
+    DiningTableStatus tableStatus,
+    Long restaurantId,
+    String restaurantName,
+    String restaurantAddress,
+    String restaurantPhoneNumber,
+    Long customerId,
+    String customerName,
+    String customerEmail,
+    String customerPhoneNumber
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.time.LocalDate;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pendant non bloquant des lectures de {@link BookingRepository} : mêmes filtres, même tri
+ * (date, id) et même projection {@link BookingSummary}, servis par R2DBC.
+ */
+public interface ReactiveBookingRepository {
+
+  /**
+   * @see BookingSearchRepository#search(BookingSearchCriteria, LocalDate, Long, Limit)
+   */
+  Flux<BookingSummary> search(BookingSearchCriteria criteria, LocalDate afterDate, Long afterId,
+      Limit limit);
+
+  Mono<BookingSummary> findSummaryById(Long id);
+}
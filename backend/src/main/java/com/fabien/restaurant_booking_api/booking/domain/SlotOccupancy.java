@@ -0,0 +1,7 @@
+package com.fabien.restaurant_booking_api.booking.domain;
+
+import java.time.LocalDate;
+
+public record SlotOccupancy(LocalDate date, TimeSlotType timeSlotType, Long bookedTables) {
+
+}
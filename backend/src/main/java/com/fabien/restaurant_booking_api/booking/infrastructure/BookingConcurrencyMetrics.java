@@ -0,0 +1,42 @@
+package com.fabien.restaurant_booking_api.booking.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.application.ReservationHoldManager;
+import com.fabien.restaurant_booking_api.booking.application.SlotLockManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expose les compteurs du verrou par créneau et le nombre de retenues actives : lus à chaque
+ * scrape, sans coût sur le chemin des réservations. Le temps d'attente des verrous est un timer
+ * enregistré par {@link SlotLockManager} lui-même.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingConcurrencyMetrics implements MeterBinder {
+
+  private final SlotLockManager slotLockManager;
+  private final ReservationHoldManager holdManager;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("booking.slot.lock.acquisitions", slotLockManager,
+            SlotLockManager::getAcquisitions)
+        .description("Verrous de créneau obtenus sans attente")
+        .register(registry);
+    FunctionCounter.builder("booking.slot.lock.contentions", slotLockManager,
+            SlotLockManager::getContentions)
+        .description("Verrous de créneau obtenus après attente")
+        .register(registry);
+    FunctionCounter.builder("booking.slot.lock.timeouts", slotLockManager,
+            SlotLockManager::getTimeouts)
+        .description("Verrous de créneau abandonnés à l'expiration du délai")
+        .register(registry);
+    Gauge.builder("booking.holds.active", holdManager, ReservationHoldManager::activeHolds)
+        .description("Retenues de créneau en cours")
+        .register(registry);
+  }
+}
@@ -1,14 +1,32 @@
 package com.fabien.restaurant_booking_api.booking.infrastructure;
 
+import com.fabien.restaurant_booking_api.booking.application.BookingBatchItemResponse;
+import com.fabien.restaurant_booking_api.booking.application.BookingBatchRequest;
+import com.fabien.restaurant_booking_api.booking.application.BookingBatchResponse;
+import com.fabien.restaurant_booking_api.booking.application.BookingBatchStatus;
+import com.fabien.restaurant_booking_api.booking.application.BookingExportService;
 import com.fabien.restaurant_booking_api.booking.application.BookingMapper;
 import com.fabien.restaurant_booking_api.booking.application.BookingRequest;
 import com.fabien.restaurant_booking_api.booking.application.BookingResponse;
 import com.fabien.restaurant_booking_api.booking.application.BookingService;
+import com.fabien.restaurant_booking_api.booking.application.ReservationHold;
+import com.fabien.restaurant_booking_api.booking.application.ReservationHoldRequest;
+import com.fabien.restaurant_booking_api.booking.application.ReservationHoldResponse;
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
+import com.fabien.restaurant_booking_api.shared.querystats.QueryBudget;
 import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,23 +35,55 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequiredArgsConstructor
 public class BookingController {
 
   private final BookingService bookingService;
+  private final BookingExportService bookingExportService;
 
   @GetMapping
-  public ResponseEntity<List<BookingResponse>> findAll() {
-    List<BookingResponse> bookingResponses = bookingService.findAll()
-        .stream()
-        .map(BookingMapper::toResponse)
-        .toList();
-    return ResponseEntity.ok(bookingResponses);
+  @QueryBudget(max = 2)
+  public ResponseEntity<List<BookingResponse>> findAll(
+      @RequestParam(required = false) Long restaurantId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate to,
+      @RequestParam(required = false) BookingStatus status,
+      @RequestParam(required = false) TimeSlotType slot,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit) {
+    BookingSearchCriteria criteria = new BookingSearchCriteria(restaurantId, from, to, status,
+        slot);
+    return PageResponses.ok(bookingService.findAll(criteria, after, limit),
+        BookingMapper::toResponse);
+  }
+
+  /**
+   * Export NDJSON diffusé au fil de l'eau : le corps est écrit hors du thread Tomcat, qui est
+   * libéré dès le retour de la méthode.
+   */
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate to,
+      @RequestParam(required = false) Long restaurantId) {
+    bookingExportService.validateFilters(from, to, restaurantId);
+
+    StreamingResponseBody body = out -> bookingExportService.export(from, to, restaurantId, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
   }
 
   @GetMapping("/{id}")
@@ -47,7 +97,8 @@ public class BookingController {
       @Valid @RequestBody BookingRequest request) {
     Booking booking = BookingMapper.toEntity(request);
 
-    BookingResponse response = BookingMapper.toResponse(bookingService.create(booking));
+    BookingResponse response = BookingMapper.toResponse(
+        bookingService.create(booking, request.getHoldToken()));
     URI location = ServletUriComponentsBuilder.fromCurrentRequest()
         .path("/{id}")
         .buildAndExpand(response.id())
@@ -55,6 +106,24 @@ public class BookingController {
     return ResponseEntity.created(location).body(response);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<BookingBatchResponse> createBatch(
+      @Valid @RequestBody BookingBatchRequest request) {
+    List<Booking> bookings = request.getBookings()
+        .stream()
+        .map(BookingMapper::toEntity)
+        .toList();
+
+    List<BookingBatchItemResponse> results = bookingService.createBatch(bookings)
+        .stream()
+        .map(BookingMapper::toBatchItemResponse)
+        .toList();
+    long created = results.stream()
+        .filter(result -> result.status() == BookingBatchStatus.CREATED)
+        .count();
+    return ResponseEntity.ok(new BookingBatchResponse(created, results.size() - created, results));
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<BookingResponse> update(@PathVariable Long id,
       @Valid @RequestBody BookingRequest request) {
@@ -67,4 +136,24 @@ public class BookingController {
     bookingService.deleteById(id);
     return ResponseEntity.noContent().build();
   }
+
+  @PostMapping("/holds")
+  public ResponseEntity<ReservationHoldResponse> placeHold(
+      @Valid @RequestBody ReservationHoldRequest request) {
+    ReservationHold hold = bookingService.placeHold(request.getDiningTableId(), request.getDate(),
+        request.getTimeSlotType());
+
+    ReservationHoldResponse response = BookingMapper.toHoldResponse(hold);
+    URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+        .path("/{token}")
+        .buildAndExpand(response.token())
+        .toUri();
+    return ResponseEntity.created(location).body(response);
+  }
+
+  @DeleteMapping("/holds/{token}")
+  public ResponseEntity<Void> releaseHold(@PathVariable String token) {
+    bookingService.releaseHold(token);
+    return ResponseEntity.noContent().build();
+  }
 }
@@ -0,0 +1,78 @@
+package com.fabien.restaurant_booking_api.booking.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingInsertRepository;
+import com.fabien.restaurant_booking_api.shared.persistence.GeneratedIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class BookingInsertRepositoryImpl implements BookingInsertRepository {
+
+  // La cible du conflit reprend le prédicat de l'index partiel pour que PostgreSQL l'infère
+  private static final String INSERT_IF_SLOT_FREE = """
+      INSERT INTO bookings (id, dining_table_id, customer_id, date, time_slot_type, status)
+      VALUES %s
+      ON CONFLICT (dining_table_id, date, time_slot_type) WHERE status <> 'CANCELED' DO NOTHING
+      RETURNING id
+      """;
+
+  private static final String ROW = "(:id%1$d, :diningTableId%1$d, :customerId%1$d, :date%1$d, "
+      + ":timeSlotType%1$d, :status%1$d)";
+
+  private final EntityManager entityManager;
+
+  @Override
+  @Transactional
+  @SuppressWarnings("unchecked")
+  public Optional<Long> insertIfSlotFree(Booking booking) {
+    Query query = entityManager.createNativeQuery(INSERT_IF_SLOT_FREE.formatted(ROW.formatted(0)),
+        Long.class);
+    bind(query, 0, booking, GeneratedIds.next(entityManager, booking));
+
+    List<Long> ids = query.getResultList();
+    return ids.stream().findFirst();
+  }
+
+  @Override
+  @Transactional
+  @SuppressWarnings("unchecked")
+  public Set<Long> insertAllIfSlotFree(List<Booking> bookings) {
+    Set<Long> inserted = new HashSet<>();
+    for (int from = 0; from < bookings.size(); from += INSERT_CHUNK_SIZE) {
+      List<Booking> chunk = bookings.subList(from,
+          Math.min(from + INSERT_CHUNK_SIZE, bookings.size()));
+
+      StringJoiner rows = new StringJoiner(", ");
+      for (int i = 0; i < chunk.size(); i++) {
+        rows.add(ROW.formatted(i));
+      }
+      Query query = entityManager.createNativeQuery(INSERT_IF_SLOT_FREE.formatted(rows),
+          Long.class);
+      for (int i = 0; i < chunk.size(); i++) {
+        Booking booking = chunk.get(i);
+        booking.setId(GeneratedIds.next(entityManager, booking));
+        bind(query, i, booking, booking.getId());
+      }
+
+      inserted.addAll(query.getResultList());
+    }
+    return inserted;
+  }
+
+  private static void bind(Query query, int row, Booking booking, Long id) {
+    query.setParameter("id" + row, id)
+        .setParameter("diningTableId" + row, booking.getDiningTable().getId())
+        .setParameter("customerId" + row, booking.getCustomer().getId())
+        .setParameter("date" + row, booking.getDate())
+        .setParameter("timeSlotType" + row, booking.getTimeSlotType().name())
+        .setParameter("status" + row, booking.getStatus().name());
+  }
+}
@@ -0,0 +1,78 @@
+package com.fabien.restaurant_booking_api.booking.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+@RequiredArgsConstructor
+public class BookingSearchRepositoryImpl implements BookingSearchRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<BookingSummary> search(BookingSearchCriteria criteria, LocalDate afterDate,
+      Long afterId, Limit limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<BookingSummary> query = cb.createQuery(BookingSummary.class);
+    Root<Booking> booking = query.from(Booking.class);
+    Join<Booking, DiningTable> table = booking.join("diningTable");
+    Join<DiningTable, Restaurant> restaurant = table.join("restaurant");
+    Join<Booking, Customer> customer = booking.join("customer");
+    Path<LocalDate> date = booking.get("date");
+    Path<Long> id = booking.get("id");
+
+    List<Predicate> predicates = new ArrayList<>();
+    if (criteria.restaurantId() != null) {
+      predicates.add(cb.equal(restaurant.get("id"), criteria.restaurantId()));
+    }
+    if (criteria.from() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(date, criteria.from()));
+    }
+    if (criteria.to() != null) {
+      predicates.add(cb.lessThanOrEqualTo(date, criteria.to()));
+    }
+    if (criteria.status() != null) {
+      predicates.add(cb.equal(booking.get("status"), criteria.status()));
+    }
+    if (criteria.timeSlotType() != null) {
+      predicates.add(cb.equal(booking.get("timeSlotType"), criteria.timeSlotType()));
+    }
+    if (afterDate != null) {
+      predicates.add(cb.or(
+          cb.greaterThan(date, afterDate),
+          cb.and(cb.equal(date, afterDate), cb.greaterThan(id, afterId))));
+    }
+
+    query.select(cb.construct(BookingSummary.class,
+            id, date, booking.get("timeSlotType"), booking.get("status"),
+            table.get("id"), table.get("capacity"), table.get("status"),
+            restaurant.get("id"), restaurant.get("name"), restaurant.get("address"),
+            restaurant.get("phoneNumber"),
+            customer.get("id"), customer.get("name"), customer.get("email"),
+            customer.get("phoneNumber")))
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(cb.asc(date), cb.asc(id));
+    TypedQuery<BookingSummary> typedQuery = entityManager.createQuery(query);
+    if (limit.isLimited()) {
+      typedQuery.setMaxResults(limit.max());
+    }
+    return typedQuery.getResultList();
+  }
+}
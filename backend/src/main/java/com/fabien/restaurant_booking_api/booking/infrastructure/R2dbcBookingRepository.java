@@ -0,0 +1,118 @@
+package com.fabien.restaurant_booking_api.booking.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.ReactiveBookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Limit;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Même requête que {@link BookingSearchRepositoryImpl}, écrite en SQL : les jointures et le tri
+ * (date, id) s'appuient sur les mêmes index.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcBookingRepository implements ReactiveBookingRepository {
+
+  private static final String SELECT_SUMMARY = """
+      SELECT b.id, b.date, b.time_slot_type, b.status,
+             t.id AS table_id, t.capacity AS table_capacity, t.status AS table_status,
+             r.id AS restaurant_id, r.name AS restaurant_name, r.address AS restaurant_address,
+             r.phone_number AS restaurant_phone_number,
+             c.id AS customer_id, c.name AS customer_name, c.email AS customer_email,
+             c.phone_number AS customer_phone_number
+      FROM bookings b
+      JOIN dining_tables t ON t.id = b.dining_table_id
+      JOIN restaurants r ON r.id = t.restaurant_id
+      JOIN customers c ON c.id = b.customer_id
+      """;
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Flux<BookingSummary> search(BookingSearchCriteria criteria, LocalDate afterDate,
+      Long afterId, Limit limit) {
+    List<String> predicates = new ArrayList<>();
+    Map<String, Object> params = new HashMap<>();
+    if (criteria.restaurantId() != null) {
+      predicates.add("r.id = :restaurantId");
+      params.put("restaurantId", criteria.restaurantId());
+    }
+    if (criteria.from() != null) {
+      predicates.add("b.date >= :from");
+      params.put("from", criteria.from());
+    }
+    if (criteria.to() != null) {
+      predicates.add("b.date <= :to");
+      params.put("to", criteria.to());
+    }
+    if (criteria.status() != null) {
+      predicates.add("b.status = :status");
+      params.put("status", criteria.status().name());
+    }
+    if (criteria.timeSlotType() != null) {
+      predicates.add("b.time_slot_type = :timeSlotType");
+      params.put("timeSlotType", criteria.timeSlotType().name());
+    }
+    if (afterDate != null) {
+      predicates.add("(b.date > :afterDate OR (b.date = :afterDate AND b.id > :afterId))");
+      params.put("afterDate", afterDate);
+      params.put("afterId", afterId);
+    }
+    String limitClause = "";
+    if (limit.isLimited()) {
+      limitClause = "\nLIMIT :limit";
+      params.put("limit", limit.max());
+    }
+
+    String where = predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates) + "\n";
+    return databaseClient.sql(SELECT_SUMMARY + where + "ORDER BY b.date, b.id" + limitClause)
+        .bindValues(params)
+        .map(R2dbcBookingRepository::toSummary)
+        .all();
+  }
+
+  @Override
+  public Mono<BookingSummary> findSummaryById(Long id) {
+    return databaseClient.sql(SELECT_SUMMARY + "WHERE b.id = :id")
+        .bind("id", id)
+        .map(R2dbcBookingRepository::toSummary)
+        .one();
+  }
+
+  private static BookingSummary toSummary(Readable row) {
+    return new BookingSummary(
+        row.get("id", Long.class),
+        row.get("date", LocalDate.class),
+        TimeSlotType.valueOf(row.get("time_slot_type", String.class)),
+        BookingStatus.valueOf(row.get("status", String.class)),
+        row.get("table_id", Long.class),
+        row.get("table_capacity", Integer.class),
+        DiningTableStatus.valueOf(row.get("table_status", String.class)),
+        row.get("restaurant_id", Long.class),
+        row.get("restaurant_name", String.class),
+        row.get("restaurant_address", String.class),
+        row.get("restaurant_phone_number", String.class),
+        row.get("customer_id", Long.class),
+        row.get("customer_name", String.class),
+        row.get("customer_email", String.class),
+        row.get("customer_phone_number", String.class)
+    );
+  }
+}
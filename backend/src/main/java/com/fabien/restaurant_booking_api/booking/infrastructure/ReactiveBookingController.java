@@ -0,0 +1,60 @@
+package com.fabien.restaurant_booking_api.booking.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.application.BookingMapper;
+import com.fabien.restaurant_booking_api.booking.application.BookingResponse;
+import com.fabien.restaurant_booking_api.booking.application.ReactiveBookingService;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectures des réservations du profil {@code reactive}, aux mêmes URL et avec les mêmes réponses
+ * que {@link BookingController}.
+ */
+@RestController
+@RequestMapping("/api/bookings")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+  private final ReactiveBookingService bookingService;
+
+  @GetMapping
+  public Mono<ResponseEntity<List<BookingResponse>>> findAll(
+      @RequestParam(required = false) Long restaurantId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+      LocalDate to,
+      @RequestParam(required = false) BookingStatus status,
+      @RequestParam(required = false) TimeSlotType slot,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit,
+      ServerHttpRequest request) {
+    BookingSearchCriteria criteria = new BookingSearchCriteria(restaurantId, from, to, status,
+        slot);
+    return bookingService.findAll(criteria, after, limit)
+        .map(page -> PageResponses.ok(page, BookingMapper::toResponse, request));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<BookingResponse>> findById(@PathVariable Long id) {
+    return bookingService.findById(id)
+        .map(booking -> ResponseEntity.ok(BookingMapper.toResponse(booking)));
+  }
+}
@@ -2,19 +2,38 @@ package com.fabien.restaurant_booking_api.customer.application;
 
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.customer.domain.CustomerRepository;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
 
+  static final int DEFAULT_SUGGESTION_LIMIT = 10;
+  static final int MAX_SUGGESTION_LIMIT = 50;
+
   private final CustomerRepository customerRepository;
+  private final CustomerSuggestionIndex suggestionIndex;
 
-  public List<Customer> findAll() {
-    return customerRepository.findAll();
+  /**
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public KeysetPage<Customer> findAll(String after, Integer limit) {
+    Limit page = KeysetPagination.pageLimit(limit);
+    List<Customer> rows = customerRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPagination.decodeIdCursor(after), KeysetPagination.fetchLimit(page));
+    return KeysetPage.of(rows, page, customer -> KeysetPagination.encodeCursor(customer.getId()));
   }
 
   public Customer findById(Long id) {
@@ -22,18 +41,100 @@ public class CustomerService {
         .orElseThrow(() -> new EntityNotFoundException("Customer not found with id : " + id));
   }
 
+  /**
+   * Suggestions servies par l'index en mémoire, sans requête SQL.
+   */
+  public List<Customer> suggest(String query, Integer limit) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Le texte recherché est obligatoire");
+    }
+    int size = limit == null ? DEFAULT_SUGGESTION_LIMIT : limit;
+    if (size < 1 || size > MAX_SUGGESTION_LIMIT) {
+      throw new IllegalArgumentException(
+          "La limite doit être comprise entre 1 et " + MAX_SUGGESTION_LIMIT);
+    }
+
+    return suggestionIndex.suggest(query, size);
+  }
+
+  public List<Customer> findAllById(Collection<Long> ids) {
+    return customerRepository.findAllById(ids);
+  }
+
+  /**
+   * Upsert par numéro de téléphone d'un lot de clients, avec la même requête que
+   * {@link #upsertByPhoneNumber(Customer)} : un client existant voit son nom et son email mis à
+   * jour, et un client créé en parallèle est retrouvé au lieu de faire échouer le lot. Les numéros
+   * sont triés pour que deux lots concurrents verrouillent les lignes dans le même ordre. Dans une
+   * transaction, les clients n'entrent dans l'index de suggestions qu'après sa validation.
+   *
+   * @return les clients indexés par numéro de téléphone
+   */
+  public Map<String, Customer> findOrCreateByPhoneNumber(Collection<Customer> customers) {
+    Map<String, Customer> byPhoneNumber = new HashMap<>();
+    if (customers.isEmpty()) {
+      return byPhoneNumber;
+    }
+
+    Map<String, Customer> requested = new TreeMap<>();
+    customers.forEach(customer -> requested.putIfAbsent(customer.getPhoneNumber(), customer));
+
+    customerRepository.upsertAllByPhoneNumber(List.copyOf(requested.values()))
+        .forEach(customer -> {
+          byPhoneNumber.put(customer.getPhoneNumber(), customer);
+          indexAfterCommit(customer);
+        });
+
+    return byPhoneNumber;
+  }
+
+  /**
+   * Client identifié par son seul numéro de téléphone : un client qui revient est retrouvé (et ses
+   * coordonnées mises à jour) au lieu de heurter la contrainte d'unicité. Appelé dans une
+   * transaction, le client n'entre dans l'index de suggestions qu'après sa validation.
+   */
+  public Customer upsertByPhoneNumber(Customer customer) {
+    if (customer.getPhoneNumber() == null || customer.getPhoneNumber().isBlank()) {
+      throw new IllegalArgumentException("Le numéro de téléphone est obligatoire");
+    }
+    Customer saved = customerRepository.upsertByPhoneNumber(customer);
+    indexAfterCommit(saved);
+    return saved;
+  }
+
   public Customer create(Customer customer) {
-    return customerRepository.save(customer);
+    Customer saved = customerRepository.save(customer);
+    suggestionIndex.put(saved);
+    return saved;
   }
 
   public Customer update(Long id, Customer customer) {
     findById(id);
     customer.setId(id);
-    return customerRepository.save(customer);
+    Customer saved = customerRepository.save(customer);
+    suggestionIndex.put(saved);
+    return saved;
   }
 
   public void deleteById(Long id) {
     findById(id);
     customerRepository.deleteById(id);
+    suggestionIndex.remove(id);
+  }
+
+  /**
+   * Un client écrit dans une transaction annulée ne doit pas apparaître dans les suggestions.
+   */
+  private void indexAfterCommit(Customer customer) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      suggestionIndex.put(customer);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        suggestionIndex.put(customer);
+      }
+    });
   }
 }
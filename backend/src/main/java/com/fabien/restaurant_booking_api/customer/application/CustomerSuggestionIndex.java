@@ -0,0 +1,177 @@
+package com.fabien.restaurant_booking_api.customer.application;
+
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.customer.domain.CustomerRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index en mémoire des clients pour l'autocomplétion, par préfixe de numéro de téléphone (chiffres
+ * seuls) ou de nom (minuscules, sans accents, nom complet et chaque mot).
+ * <p>
+ * Les clés sont rangées dans un ensemble trié concurrent : une recherche est une sous-plage
+ * {@code [préfixe, préfixe + U+FFFF)} parcourue jusqu'à {@code limit} clients distincts, sans
+ * verrou. Les écritures, rares, sont sérialisées entre elles pour garder les clés de chaque client
+ * cohérentes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerSuggestionIndex {
+
+  private static final char PREFIX_END = '\uffff';
+
+  private final CustomerRepository customerRepository;
+
+  private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>();
+  private final Map<Long, Customer> customersById = new ConcurrentHashMap<>();
+  private final Map<Long, Set<String>> keysById = new ConcurrentHashMap<>();
+  // ReentrantLock plutôt que synchronized : n'épingle pas le thread porteur en mode virtuel
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    List<Customer> customers = customerRepository.findAll();
+    customers.forEach(this::put);
+    log.info("Index de suggestion des clients construit avec {} clients", customers.size());
+  }
+
+  /**
+   * Clients dont le téléphone ou le nom commence par {@code query}, dans l'ordre des clés.
+   */
+  public List<Customer> suggest(String query, int limit) {
+    Set<Long> ids = new LinkedHashSet<>();
+    collect(normalizeName(query), ids, limit);
+    String digits = normalizePhoneNumber(query);
+    if (!digits.isEmpty()) {
+      collect(digits, ids, limit);
+    }
+
+    List<Customer> customers = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      Customer customer = customersById.get(id);
+      if (customer != null) {
+        customers.add(customer);
+      }
+    }
+    return customers;
+  }
+
+  public void put(Customer customer) {
+    Set<String> keys = keysOf(customer);
+    writeLock.lock();
+    try {
+      Set<String> previous = keysById.put(customer.getId(), keys);
+      customersById.put(customer.getId(), copyOf(customer));
+
+      keys.forEach(key -> entries.add(new Entry(key, customer.getId())));
+      if (previous != null) {
+        previous.stream()
+            .filter(key -> !keys.contains(key))
+            .forEach(key -> entries.remove(new Entry(key, customer.getId())));
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void remove(Long customerId) {
+    writeLock.lock();
+    try {
+      Set<String> keys = keysById.remove(customerId);
+      if (keys != null) {
+        keys.forEach(key -> entries.remove(new Entry(key, customerId)));
+      }
+      customersById.remove(customerId);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void collect(String prefix, Set<Long> ids, int limit) {
+    if (prefix.isEmpty()) {
+      return;
+    }
+    for (Entry entry : entries.subSet(new Entry(prefix, Long.MIN_VALUE), true,
+        new Entry(prefix + PREFIX_END, Long.MIN_VALUE), false)) {
+      if (ids.size() >= limit) {
+        return;
+      }
+      ids.add(entry.customerId());
+    }
+  }
+
+  private Set<String> keysOf(Customer customer) {
+    Set<String> keys = new LinkedHashSet<>();
+    String phoneNumber = normalizePhoneNumber(customer.getPhoneNumber());
+    if (!phoneNumber.isEmpty()) {
+      keys.add(phoneNumber);
+    }
+
+    String name = normalizeName(customer.getName());
+    if (!name.isEmpty()) {
+      keys.add(name);
+      for (String word : name.split(" ")) {
+        keys.add(word);
+      }
+    }
+    return keys;
+  }
+
+  static String normalizePhoneNumber(String value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder digits = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits.append(c);
+      }
+    }
+    return digits.toString();
+  }
+
+  static String normalizeName(String value) {
+    if (value == null) {
+      return "";
+    }
+    return Normalizer.normalize(value, Normalizer.Form.NFD)
+        .replaceAll("\\p{M}", "")
+        .toLowerCase(Locale.ROOT)
+        .trim()
+        .replaceAll("\\s+", " ");
+  }
+
+  private static Customer copyOf(Customer customer) {
+    Customer copy = new Customer();
+    copy.setId(customer.getId());
+    copy.setName(customer.getName());
+    copy.setEmail(customer.getEmail());
+    copy.setPhoneNumber(customer.getPhoneNumber());
+    return copy;
+  }
+
+  private record Entry(String key, long customerId) implements Comparable<Entry> {
+
+    @Override
+    public int compareTo(Entry other) {
+      int byKey = key.compareTo(other.key);
+      return byKey != 0 ? byKey : Long.compare(customerId, other.customerId);
+    }
+  }
+}
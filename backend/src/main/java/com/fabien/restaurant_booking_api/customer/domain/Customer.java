@@ -1,9 +1,8 @@
 package com.fabien.restaurant_booking_api.customer.domain;
 
+import com.fabien.restaurant_booking_api.shared.persistence.PooledSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Data;
@@ -14,7 +13,7 @@ import lombok.Data;
 public class Customer {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledSequence(name = "customers_seq")
   private Long id;
 
   @Column(unique = true, nullable = false)
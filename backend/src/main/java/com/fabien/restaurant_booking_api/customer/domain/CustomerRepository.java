@@ -1,7 +1,11 @@
 package com.fabien.restaurant_booking_api.customer.domain;
 
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>,
+    CustomerUpsertRepository {
 
+  List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
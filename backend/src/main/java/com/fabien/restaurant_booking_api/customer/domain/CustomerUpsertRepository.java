@@ -0,0 +1,31 @@
+package com.fabien.restaurant_booking_api.customer.domain;
+
+import java.util.List;
+
+/**
+ * Création ou mise à jour d'un client en une seule requête, arbitrée par la contrainte d'unicité
+ * sur le numéro de téléphone.
+ */
+public interface CustomerUpsertRepository {
+
+  /**
+   * Lignes par requête d'upsert multiple, soit le batch JDBC configuré.
+   */
+  int UPSERT_CHUNK_SIZE = 50;
+
+  /**
+   * Insère le client, ou met à jour le nom et l'email du client qui a déjà ce numéro (une valeur
+   * absente ne remplace pas la valeur connue).
+   *
+   * @return le client tel qu'enregistré, avec son identifiant
+   */
+  Customer upsertByPhoneNumber(Customer customer);
+
+  /**
+   * Même upsert, par requêtes de {@value #UPSERT_CHUNK_SIZE} lignes. Les numéros doivent être
+   * distincts : PostgreSQL refuse qu'une même requête mette à jour deux fois la même ligne.
+   *
+   * @return les clients tels qu'enregistrés, avec leur identifiant
+   */
+  List<Customer> upsertAllByPhoneNumber(List<Customer> customers);
+}
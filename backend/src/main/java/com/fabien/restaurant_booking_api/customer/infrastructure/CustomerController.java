@@ -5,10 +5,13 @@ import com.fabien.restaurant_booking_api.customer.application.CustomerRequest;
 import com.fabien.restaurant_booking_api.customer.application.CustomerResponse;
 import com.fabien.restaurant_booking_api.customer.application.CustomerService;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,24 +21,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/customers")
-@CrossOrigin("http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = PageResponses.NEXT_CURSOR_HEADER)
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequiredArgsConstructor
 public class CustomerController {
 
   private final CustomerService customerService;
 
   @GetMapping
-  public ResponseEntity<List<CustomerResponse>> findAll() {
-    List<CustomerResponse> customerResponses = customerService.findAll()
+  public ResponseEntity<List<CustomerResponse>> findAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit) {
+    return PageResponses.ok(customerService.findAll(after, limit), CustomerMapper::toResponse);
+  }
+
+  @GetMapping("/suggest")
+  public ResponseEntity<List<CustomerResponse>> suggest(@RequestParam String q,
+      @RequestParam(required = false) Integer limit) {
+    List<CustomerResponse> suggestions = customerService.suggest(q, limit)
         .stream()
         .map(CustomerMapper::toResponse)
         .toList();
-    return ResponseEntity.ok(customerResponses);
+
+    return ResponseEntity.ok(suggestions);
   }
 
   @GetMapping("/{id}")
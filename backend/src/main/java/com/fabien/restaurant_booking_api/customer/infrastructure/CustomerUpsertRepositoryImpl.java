@@ -0,0 +1,70 @@
+package com.fabien.restaurant_booking_api.customer.infrastructure;
+
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.customer.domain.CustomerUpsertRepository;
+import com.fabien.restaurant_booking_api.shared.persistence.GeneratedIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class CustomerUpsertRepositoryImpl implements CustomerUpsertRepository {
+
+  // DO UPDATE plutôt que DO NOTHING : RETURNING renvoie alors aussi la ligne existante
+  private static final String UPSERT_BY_PHONE_NUMBER = """
+      INSERT INTO customers (id, phone_number, email, name)
+      VALUES %s
+      ON CONFLICT (phone_number) DO UPDATE
+        SET email = COALESCE(EXCLUDED.email, customers.email),
+            name = COALESCE(EXCLUDED.name, customers.name)
+      RETURNING id, phone_number, email, name
+      """;
+
+  private static final String ROW = "(:id%1$d, :phoneNumber%1$d, :email%1$d, :name%1$d)";
+
+  private final EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public Customer upsertByPhoneNumber(Customer customer) {
+    Query query = entityManager.createNativeQuery(
+        UPSERT_BY_PHONE_NUMBER.formatted(ROW.formatted(0)), Customer.class);
+    bind(query, 0, customer);
+    return (Customer) query.getSingleResult();
+  }
+
+  @Override
+  @Transactional
+  @SuppressWarnings("unchecked")
+  public List<Customer> upsertAllByPhoneNumber(List<Customer> customers) {
+    List<Customer> saved = new ArrayList<>(customers.size());
+    for (int from = 0; from < customers.size(); from += UPSERT_CHUNK_SIZE) {
+      List<Customer> chunk = customers.subList(from,
+          Math.min(from + UPSERT_CHUNK_SIZE, customers.size()));
+
+      StringJoiner rows = new StringJoiner(", ");
+      for (int i = 0; i < chunk.size(); i++) {
+        rows.add(ROW.formatted(i));
+      }
+      Query query = entityManager.createNativeQuery(UPSERT_BY_PHONE_NUMBER.formatted(rows),
+          Customer.class);
+      for (int i = 0; i < chunk.size(); i++) {
+        bind(query, i, chunk.get(i));
+      }
+
+      saved.addAll(query.getResultList());
+    }
+    return saved;
+  }
+
+  private void bind(Query query, int row, Customer customer) {
+    query.setParameter("id" + row, GeneratedIds.next(entityManager, customer))
+        .setParameter("phoneNumber" + row, customer.getPhoneNumber())
+        .setParameter("email" + row, customer.getEmail())
+        .setParameter("name" + row, customer.getName());
+  }
+}
@@ -2,9 +2,14 @@ package com.fabien.restaurant_booking_api.restaurant.application;
 
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.restaurant.domain.RestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,9 +17,17 @@ import org.springframework.stereotype.Service;
 public class RestaurantService {
 
   private final RestaurantRepository restaurantRepository;
+  private final ChangeCounters changeCounters;
 
-  public List<Restaurant> findAll() {
-    return restaurantRepository.findAll();
+  /**
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public KeysetPage<Restaurant> findAll(String after, Integer limit) {
+    Limit page = KeysetPagination.pageLimit(limit);
+    List<Restaurant> rows = restaurantRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPagination.decodeIdCursor(after), KeysetPagination.fetchLimit(page));
+    return KeysetPage.of(rows, page,
+        restaurant -> KeysetPagination.encodeCursor(restaurant.getId()));
   }
 
   public Restaurant findById(Long id) {
@@ -23,22 +36,33 @@ public class RestaurantService {
   }
 
   public Restaurant create(Restaurant restaurant) {
-    return restaurantRepository.save(restaurant);
+    Restaurant saved = restaurantRepository.save(restaurant);
+    changeCounters.increment(ReferenceCollection.RESTAURANTS);
+    return saved;
   }
 
+  /**
+   * La version lue est reportée sur l'entité : sans elle, {@code save} la prendrait pour une
+   * nouvelle entité, et une modification concurrente entre la lecture et l'écriture est refusée.
+   */
   public Restaurant update(Long id, Restaurant restaurant) {
-    findById(id);
+    Restaurant existing = findById(id);
     restaurant.setId(id);
-    return restaurantRepository.save(restaurant);
+    restaurant.setVersion(existing.getVersion());
+    Restaurant saved = restaurantRepository.save(restaurant);
+    changeCounters.increment(ReferenceCollection.RESTAURANTS);
+    return saved;
   }
 
   public void deleteById(Long id) {
     findById(id);
     restaurantRepository.deleteById(id);
+    changeCounters.increment(ReferenceCollection.RESTAURANTS);
   }
 
   public void validateExists(Long restaurantId) {
-    if (!restaurantRepository.existsById(restaurantId)) {
+    // findById plutôt qu'existsById : la recherche par clé est servie par le cache
+    if (restaurantRepository.findById(restaurantId).isEmpty()) {
       throw new EntityNotFoundException("Restaurant not found with id : " + restaurantId);
     }
   }
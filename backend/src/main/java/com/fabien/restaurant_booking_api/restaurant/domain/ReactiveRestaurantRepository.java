@@ -0,0 +1,12 @@
+package com.fabien.restaurant_booking_api.restaurant.domain;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Pendant non bloquant de {@link RestaurantRepository}, limité à ce dont les lectures réactives
+ * ont besoin.
+ */
+public interface ReactiveRestaurantRepository {
+
+  Mono<Boolean> existsById(Long id);
+}
@@ -1,19 +1,30 @@
 package com.fabien.restaurant_booking_api.restaurant.domain;
 
+import com.fabien.restaurant_booking_api.shared.persistence.PooledSequence;
+import com.fabien.restaurant_booking_api.shared.persistence.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * Donnée de référence lue à chaque réservation : conservée dans le cache de second niveau, mis à
+ * jour par Hibernate à chaque écriture passant par l'EntityManager.
+ */
 @Entity
 @Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE,
+    region = SecondLevelCacheConfig.RESTAURANT_REGION)
 @Data
 public class Restaurant {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledSequence(name = "restaurants_seq")
   private Long id;
 
   private String name;
@@ -22,4 +33,8 @@ public class Restaurant {
 
   private String phoneNumber;
 
+  // Incrémentée à chaque mise à jour : ETag de la ressource et verrou optimiste
+  @Version
+  private Long version;
+
 }
@@ -1,7 +1,10 @@
 package com.fabien.restaurant_booking_api.restaurant.domain;
 
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
+  List<Restaurant> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,25 @@
+package com.fabien.restaurant_booking_api.restaurant.infrastructure;
+
+import com.fabien.restaurant_booking_api.restaurant.domain.ReactiveRestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcRestaurantRepository implements ReactiveRestaurantRepository {
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Mono<Boolean> existsById(Long id) {
+    return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM restaurants WHERE id = :id) AS found")
+        .bind("id", id)
+        .map(row -> row.get("found", Boolean.class))
+        .one();
+  }
+}
@@ -0,0 +1,40 @@
+package com.fabien.restaurant_booking_api.restaurant.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.application.ReactiveBookingService;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Disponibilités du profil {@code reactive}, à la même URL que {@link RestaurantController}.
+ */
+@RestController
+@RequestMapping("/api/restaurants")
+@CrossOrigin("http://localhost:4200")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRestaurantController {
+
+  private final ReactiveBookingService bookingService;
+
+  @GetMapping("/{id}/availability")
+  public Flux<DiningTableResponse> findFreeTables(@PathVariable Long id,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam TimeSlotType slot,
+      @RequestParam Integer partySize) {
+    return bookingService.findFreeTables(id, date, slot, partySize)
+        .map(DiningTableMapper::toResponse);
+  }
+}
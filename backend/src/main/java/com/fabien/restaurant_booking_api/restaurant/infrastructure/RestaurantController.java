@@ -1,15 +1,35 @@
 package com.fabien.restaurant_booking_api.restaurant.infrastructure;
 
+import com.fabien.restaurant_booking_api.booking.application.AvailabilityCalendarEntry;
+import com.fabien.restaurant_booking_api.booking.application.AvailabilityChange;
+import com.fabien.restaurant_booking_api.booking.application.AvailabilityHub;
+import com.fabien.restaurant_booking_api.booking.application.BookingService;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantMapper;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantRequest;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantResponse;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ETags;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,31 +38,49 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/restaurants")
-@CrossOrigin("http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = PageResponses.NEXT_CURSOR_HEADER)
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequiredArgsConstructor
 public class RestaurantController {
 
   private final RestaurantService restaurantService;
+  private final BookingService bookingService;
+  private final ChangeCounters changeCounters;
+  private final AvailabilityHub availabilityHub;
 
+  @Value("${booking.stream.timeout-ms}")
+  private long streamTimeoutMillis;
+
+  /**
+   * ETag fort dérivé du compteur de modifications des restaurants : un {@code If-None-Match}
+   * encore valable reçoit un 304 sans qu'aucune ligne soit lue.
+   */
   @GetMapping
-  public ResponseEntity<List<RestaurantResponse>> findAll() {
-    List<RestaurantResponse> restaurantResponses = restaurantService.findAll()
-        .stream()
-        .map(RestaurantMapper::toResponse)
-        .toList();
-    return ResponseEntity.ok(restaurantResponses);
+  public ResponseEntity<List<RestaurantResponse>> findAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit,
+      WebRequest request) {
+    if (request.checkNotModified(changeCounters.eTag(ReferenceCollection.RESTAURANTS))) {
+      return null;
+    }
+    return PageResponses.ok(restaurantService.findAll(after, limit), RestaurantMapper::toResponse);
   }
 
   @GetMapping("/{id}")
   public ResponseEntity<RestaurantResponse> findById(@PathVariable Long id) {
     Restaurant restaurant = restaurantService.findById(id);
 
-    return ResponseEntity.ok(RestaurantMapper.toResponse(restaurant));
+    return ResponseEntity.ok()
+        .eTag(ETags.strong(restaurant.getVersion()))
+        .body(RestaurantMapper.toResponse(restaurant));
   }
 
   @PostMapping
@@ -71,4 +109,85 @@ public class RestaurantController {
 
     return ResponseEntity.noContent().build();
   }
+
+  @GetMapping("/{id}/availability")
+  public ResponseEntity<List<DiningTableResponse>> findFreeTables(@PathVariable Long id,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam TimeSlotType slot,
+      @RequestParam Integer partySize) {
+    List<DiningTableResponse> tableResponses = bookingService.findFreeTables(id, date, slot,
+            partySize)
+        .stream()
+        .map(DiningTableMapper::toResponse)
+        .toList();
+    return ResponseEntity.ok(tableResponses);
+  }
+
+  /**
+   * Flux SSE des créneaux pris ou libérés dans ce restaurant, à la place d'une interrogation
+   * périodique de {@code /availability}. Un événement {@code resync} signale que des événements
+   * ont été écartés parce que le client ne suivait pas : il doit alors relire les disponibilités.
+   */
+  @GetMapping(value = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamAvailability(@PathVariable Long id) {
+    restaurantService.validateExists(id);
+
+    SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+    AvailabilityHub.Subscription subscription = availabilityHub.subscribe(id,
+        new EmitterListener(emitter));
+    emitter.onCompletion(subscription::close);
+    emitter.onTimeout(subscription::close);
+    emitter.onError(error -> subscription.close());
+    return emitter;
+  }
+
+  /**
+   * Grille de disponibilité sur la fenêtre de réservation. L'ETag faible permet au client de
+   * recevoir un 304 tant que la grille n'a pas changé.
+   */
+  @GetMapping("/{id}/calendar")
+  public ResponseEntity<List<AvailabilityCalendarEntry>> getCalendar(@PathVariable Long id) {
+    List<AvailabilityCalendarEntry> calendar = bookingService.getCalendar(id);
+    return ResponseEntity.ok()
+        .eTag("W/\"" + calendarHash(calendar) + "\"")
+        .body(calendar);
+  }
+
+  private String calendarHash(List<AvailabilityCalendarEntry> calendar) {
+    StringBuilder content = new StringBuilder();
+    calendar.forEach(entry -> content.append(entry.date())
+        .append(entry.timeSlotType().name())
+        .append(entry.freeTables())
+        .append('/')
+        .append(entry.totalTables())
+        .append(';'));
+    return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Quand l'abonnement s'arrête de lui-même (client parti, arrêt de l'application), la requête
+   * asynchrone est terminée aussi : sinon elle resterait ouverte jusqu'à l'expiration du flux.
+   * Une écriture qui a échoué n'est pas relayée par {@code completeWithError} : le client n'est
+   * plus là pour recevoir une réponse d'erreur.
+   */
+  private record EmitterListener(SseEmitter emitter) implements AvailabilityHub.Listener {
+
+    @Override
+    public void onChange(AvailabilityChange change, long dropped) throws IOException {
+      if (dropped > 0) {
+        emitter.send(SseEmitter.event().name("resync").data(dropped));
+      }
+      emitter.send(SseEmitter.event().name("availability").data(change));
+    }
+
+    @Override
+    public void onHeartbeat() throws IOException {
+      emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void onClose() {
+      emitter.complete();
+    }
+  }
 }
@@ -0,0 +1,51 @@
+package com.fabien.restaurant_booking_api.shared.etag;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compteur de modifications par collection de référence, incrémenté par les méthodes d'écriture
+ * des services une fois l'écriture validée. Un ETag de liste en est dérivé sans lire aucune ligne :
+ * tant qu'aucune écriture n'a eu lieu, {@code If-None-Match} reçoit un 304.
+ * <p>
+ * Le compteur est lu avant le chargement des lignes : une écriture concurrente peut seulement
+ * associer des données plus récentes à l'ancien ETag, qui cessera de correspondre au prochain
+ * appel, jamais l'inverse. Les compteurs vivent en mémoire, comme l'index de disponibilité : ils
+ * sont préfixés par l'instant de démarrage pour qu'un redémarrage invalide les ETags émis.
+ * Les écritures qui ne passent pas par les services (SQL direct) ne sont pas vues.
+ */
+@Component
+public class ChangeCounters {
+
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final Map<ReferenceCollection, AtomicLong> counters =
+      new EnumMap<>(ReferenceCollection.class);
+
+  public ChangeCounters() {
+    for (ReferenceCollection collection : ReferenceCollection.values()) {
+      counters.put(collection, new AtomicLong());
+    }
+  }
+
+  public void increment(ReferenceCollection collection) {
+    counters.get(collection).incrementAndGet();
+  }
+
+  public long current(ReferenceCollection collection) {
+    return counters.get(collection).get();
+  }
+
+  /**
+   * ETag fort couvrant les collections données : il change dès que l'une d'elles est modifiée.
+   */
+  public String eTag(ReferenceCollection... collections) {
+    Object[] parts = new Object[collections.length + 1];
+    parts[0] = epoch;
+    for (int i = 0; i < collections.length; i++) {
+      parts[i + 1] = current(collections[i]);
+    }
+    return ETags.strong(parts);
+  }
+}
@@ -0,0 +1,19 @@
+package com.fabien.restaurant_booking_api.shared.etag;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+  private ETags() {
+  }
+
+  /**
+   * ETag fort ({@code "a.b.c"}) : valable tant que chacune des versions données est inchangée.
+   */
+  public static String strong(Object... versions) {
+    return Arrays.stream(versions)
+        .map(String::valueOf)
+        .collect(Collectors.joining(".", "\"", "\""));
+  }
+}
@@ -0,0 +1,9 @@
+package com.fabien.restaurant_booking_api.shared.etag;
+
+/**
+ * Collections de données de référence dont les listes sont servies avec un ETag.
+ */
+public enum ReferenceCollection {
+  RESTAURANTS,
+  DINING_TABLES
+}
@@ -1,19 +1,27 @@
 package com.fabien.restaurant_booking_api.shared.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+  static final String VALIDATION_FAILURES = "api.validation.failures";
+
+  private final MeterRegistry meterRegistry;
+
   @ExceptionHandler(EntityNotFoundException.class)
   public ResponseEntity<Void> handleEntityNotFound(EntityNotFoundException ex) {
     return ResponseEntity.notFound().build();
@@ -28,6 +36,8 @@ public class GlobalExceptionHandler {
       String fieldName = error.getField();
       String errorMessage = error.getDefaultMessage();
       errors.computeIfAbsent(fieldName, k -> new ArrayList<>()).add(errorMessage);
+      meterRegistry.counter(VALIDATION_FAILURES, "object", error.getObjectName(), "field",
+          fieldName).increment();
     });
 
     return ResponseEntity.badRequest().body(errors);
@@ -47,4 +57,12 @@ public class GlobalExceptionHandler {
     error.put("error", "Une ressource avec ces données existe déjà");
     return ResponseEntity.status(409).body(error);
   }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<Map<String, String>> handleOptimisticLocking(
+      OptimisticLockingFailureException ex) {
+    Map<String, String> error = new HashMap<>();
+    error.put("error", "La ressource a été modifiée entre-temps, veuillez réessayer");
+    return ResponseEntity.status(409).body(error);
+  }
 }
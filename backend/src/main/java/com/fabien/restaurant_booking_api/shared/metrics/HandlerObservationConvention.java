@@ -0,0 +1,39 @@
+package com.fabien.restaurant_booking_api.shared.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Ajoute à {@code http.server.requests} le tag {@code handler} ({@code BookingController.create},
+ * ...) : les histogrammes de latence se lisent par méthode de contrôleur, y compris quand
+ * plusieurs méthodes partagent la même URI.
+ */
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+  static final String HANDLER = "handler";
+  private static final KeyValue NO_HANDLER = KeyValue.of(HANDLER, "none");
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+    return super.getLowCardinalityKeyValues(context).and(handler(context));
+  }
+
+  private KeyValue handler(ServerRequestObservationContext context) {
+    if (context.getCarrier() == null) {
+      return NO_HANDLER;
+    }
+    Object handler = context.getCarrier().getAttribute(
+        HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    if (handler instanceof HandlerMethod method) {
+      return KeyValue.of(HANDLER,
+          method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+    }
+    return NO_HANDLER;
+  }
+}
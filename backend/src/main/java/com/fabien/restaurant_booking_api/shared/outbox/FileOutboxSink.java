@@ -0,0 +1,63 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ajoute chaque événement en fin de fichier, une ligne JSON par événement (NDJSON). Le fichier est
+ * ouvert en DSYNC : le lot est sur disque avant d'être supprimé de l'outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+  private final Path path;
+  private final ObjectMapper objectMapper;
+
+  public FileOutboxSink(@Value("${outbox.sink.file.path:outbox/events.ndjson}") Path path,
+      ObjectMapper objectMapper) {
+    this.path = path;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void deliver(List<OutboxEvent> events) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+        for (OutboxEvent event : events) {
+          writer.write(objectMapper.writeValueAsString(toLine(event)));
+          writer.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ObjectNode toLine(OutboxEvent event) throws IOException {
+    ObjectNode line = objectMapper.createObjectNode();
+    line.put("id", event.getId());
+    line.put("aggregateType", event.getAggregateType());
+    line.put("aggregateId", event.getAggregateId());
+    line.put("eventType", event.getEventType());
+    line.put("createdAt", event.getCreatedAt().toString());
+    line.set("payload", objectMapper.readTree(event.getPayload()));
+    return line;
+  }
+}
@@ -0,0 +1,29 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conserve les événements livrés en mémoire, sans borne : réservé aux tests.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.type", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+  private final List<OutboxEvent> delivered = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void deliver(List<OutboxEvent> events) {
+    delivered.addAll(events);
+  }
+
+  public List<OutboxEvent> getDelivered() {
+    return List.copyOf(delivered);
+  }
+
+  public void clear() {
+    delivered.clear();
+  }
+}
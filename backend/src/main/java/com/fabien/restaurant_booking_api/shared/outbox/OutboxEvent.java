@@ -0,0 +1,53 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import com.fabien.restaurant_booking_api.shared.persistence.PooledSequence;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Data;
+
+/**
+ * Événement métier en attente de livraison aux consommateurs externes.
+ * <p>
+ * La ligne est écrite dans la même transaction que l'agrégat qu'elle décrit : l'événement existe
+ * si et seulement si la modification a été validée. {@link OutboxRelay} la supprime une fois
+ * livrée.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+public class OutboxEvent {
+
+  @Id
+  @PooledSequence(name = "outbox_events_seq")
+  private Long id;
+
+  @Column(nullable = false)
+  private String aggregateType;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  @Column(nullable = false)
+  private String eventType;
+
+  // Document JSON propre à l'agrégat, transmis tel quel aux consommateurs
+  @Column(nullable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(nullable = false)
+  private Instant createdAt;
+
+  public static OutboxEvent of(String aggregateType, Long aggregateId, String eventType,
+      String payload) {
+    OutboxEvent event = new OutboxEvent();
+    event.setAggregateType(aggregateType);
+    event.setAggregateId(aggregateId);
+    event.setEventType(eventType);
+    event.setPayload(payload);
+    event.setCreatedAt(Instant.now());
+    return event;
+  }
+}
@@ -0,0 +1,25 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Verrouille les plus anciens événements en attente jusqu'à la fin de la transaction. Les lignes
+   * déjà verrouillées par une autre instance du relais sont sautées plutôt qu'attendues : plusieurs
+   * instances se partagent l'outbox sans se bloquer ni livrer deux fois le même lot.
+   */
+  @Query(value = """
+      SELECT * FROM outbox_events
+      ORDER BY id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+  Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
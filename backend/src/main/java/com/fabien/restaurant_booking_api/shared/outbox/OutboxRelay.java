@@ -0,0 +1,141 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relaie l'outbox vers l'{@link OutboxSink} configuré.
+ * <p>
+ * Chaque lot est traité dans sa propre transaction : verrouillage des plus anciennes lignes
+ * ({@code FOR UPDATE SKIP LOCKED}), livraison, puis suppression. Un lot plein est aussitôt suivi du
+ * suivant, de sorte qu'un arriéré se résorbe sans attendre l'intervalle de scrutation. Après un
+ * échec, le relais se met en pause avec une temporisation exponentielle bornée.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  static final String LAG = "outbox.relay.lag";
+  static final String OLDEST_AGE = "outbox.relay.oldest.age";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxSink sink;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  private final Timer lag;
+  private final Counter delivered;
+  private final Counter failures;
+
+  // Écrits par le seul thread de scrutation ; oldestPending est lu par le scrape
+  private int consecutiveFailures;
+  private Instant retryAfter = Instant.MIN;
+  private volatile Instant oldestPending;
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+      TransactionTemplate transactionTemplate, MeterRegistry registry,
+      @Value("${outbox.relay.batch-size:100}") int batchSize,
+      @Value("${outbox.relay.backoff.initial-ms:500}") long initialBackoffMillis,
+      @Value("${outbox.relay.backoff.max-ms:60000}") long maxBackoffMillis) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("La taille de lot du relais doit être positive");
+    }
+    this.outboxEventRepository = outboxEventRepository;
+    this.sink = sink;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+    this.maxBackoff = Duration.ofMillis(Math.max(initialBackoffMillis, maxBackoffMillis));
+
+    this.lag = Timer.builder(LAG)
+        .description("Délai entre l'écriture d'un événement dans l'outbox et sa livraison")
+        .publishPercentileHistogram()
+        .register(registry);
+    this.delivered = Counter.builder("outbox.relay.delivered")
+        .description("Événements livrés par le relais de l'outbox")
+        .register(registry);
+    this.failures = Counter.builder("outbox.relay.failures")
+        .description("Lots dont la livraison a échoué")
+        .register(registry);
+    Gauge.builder(OLDEST_AGE, this, OutboxRelay::oldestPendingAgeSeconds)
+        .description("Âge du plus ancien événement en attente dans l'outbox")
+        .baseUnit("seconds")
+        .register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+  public void poll() {
+    if (Instant.now().isBefore(retryAfter)) {
+      return;
+    }
+
+    try {
+      int relayed;
+      do {
+        relayed = relayBatch();
+      } while (relayed == batchSize);
+      consecutiveFailures = 0;
+      oldestPending = outboxEventRepository.findFirstByOrderByIdAsc()
+          .map(OutboxEvent::getCreatedAt)
+          .orElse(null);
+    } catch (RuntimeException e) {
+      failures.increment();
+      Duration backoff = backoffAfter(++consecutiveFailures);
+      retryAfter = Instant.now().plus(backoff);
+      log.warn("Échec du relais de l'outbox ({} échec(s) consécutif(s)), reprise dans {} ms",
+          consecutiveFailures, backoff.toMillis(), e);
+    }
+  }
+
+  /**
+   * @return le nombre d'événements livrés
+   */
+  int relayBatch() {
+    Integer count = transactionTemplate.execute(status -> {
+      List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+      if (batch.isEmpty()) {
+        return 0;
+      }
+      oldestPending = batch.getFirst().getCreatedAt();
+
+      sink.deliver(batch);
+      outboxEventRepository.deleteAllByIdInBatch(
+          batch.stream().map(OutboxEvent::getId).toList());
+
+      Instant now = Instant.now();
+      batch.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+      delivered.increment(batch.size());
+      return batch.size();
+    });
+    return count == null ? 0 : count;
+  }
+
+  Duration backoffAfter(int failureCount) {
+    int exponent = Math.min(failureCount - 1, 30);
+    Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+
+  Instant getRetryAfter() {
+    return retryAfter;
+  }
+
+  private double oldestPendingAgeSeconds() {
+    Instant oldest = oldestPending;
+    return oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+  }
+}
@@ -0,0 +1,18 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import java.util.List;
+
+/**
+ * Destination des événements relayés depuis l'outbox (CRM, écran cuisine, broker...).
+ * <p>
+ * La livraison est au moins une fois : un lot dont la suppression échoue après livraison sera
+ * renvoyé. Les consommateurs dédoublonnent sur {@link OutboxEvent#getId()}.
+ */
+public interface OutboxSink {
+
+  /**
+   * Livre un lot, dans l'ordre des identifiants. Une exception annule la transaction du relais :
+   * le lot entier reste dans l'outbox et sera retenté après temporisation.
+   */
+  void deliver(List<OutboxEvent> events);
+}
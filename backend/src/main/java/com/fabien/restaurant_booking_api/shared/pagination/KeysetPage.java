@@ -0,0 +1,34 @@
+package com.fabien.restaurant_booking_api.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Page obtenue par pagination par clé (keyset) : {@code nextCursor} vaut null sur la dernière
+ * page.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+  /**
+   * @param rows     résultat d'une requête limitée à {@code limit + 1} lignes, la ligne en trop
+   *                 servant uniquement à savoir s'il existe une page suivante
+   * @param cursorOf clé de tri d'un élément, encodée avec {@link KeysetPagination#encodeCursor}
+   */
+  public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+    if (rows.size() <= limit) {
+      return new KeysetPage<>(rows, null);
+    }
+
+    List<T> items = rows.subList(0, limit);
+    return new KeysetPage<>(items, cursorOf.apply(items.get(limit - 1)));
+  }
+
+  public static <T> KeysetPage<T> of(List<T> rows, Limit page, Function<T, String> cursorOf) {
+    return of(rows, page.max(), cursorOf);
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,96 @@
+package com.fabien.restaurant_booking_api.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Outils communs aux listes paginées par clé : la page suivante part de la dernière clé de tri
+ * lue ({@code WHERE cle > :after}), si bien que la page 500 coûte autant que la première,
+ * contrairement à un OFFSET.
+ * <p>
+ * Le curseur est opaque pour le client : les composantes de la clé de tri sont concaténées puis
+ * encodées en Base64 URL.
+ * <p>
+ * Une liste n'est jamais renvoyée entière : sans paramètre, elle se limite à la première page de
+ * {@value #DEFAULT_LIMIT} éléments et le client suit le curseur de page suivante.
+ */
+public final class KeysetPagination {
+
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 500;
+
+  private static final String SEPARATOR = "|";
+
+  private KeysetPagination() {
+  }
+
+  /**
+   * Taille de page demandée, {@value #DEFAULT_LIMIT} par défaut.
+   */
+  public static Limit pageLimit(Integer limit) {
+    return Limit.of(resolveLimit(limit));
+  }
+
+  public static int resolveLimit(Integer limit) {
+    if (limit == null) {
+      return DEFAULT_LIMIT;
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException(
+          "La limite doit être comprise entre 1 et " + MAX_LIMIT);
+    }
+    return limit;
+  }
+
+  /**
+   * Limite de la requête : une ligne de plus que la page pour détecter la page suivante.
+   */
+  public static Limit fetchLimit(int limit) {
+    return Limit.of(limit + 1);
+  }
+
+  public static Limit fetchLimit(Limit page) {
+    return fetchLimit(page.max());
+  }
+
+  public static String encodeCursor(Object... keys) {
+    StringBuilder raw = new StringBuilder();
+    for (Object key : keys) {
+      if (!raw.isEmpty()) {
+        raw.append(SEPARATOR);
+      }
+      raw.append(key);
+    }
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String[] decodeCursor(String cursor, int expectedKeys) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] keys = raw.split("\\" + SEPARATOR, -1);
+      if (keys.length != expectedKeys) {
+        throw invalidCursor();
+      }
+      return keys;
+    } catch (IllegalArgumentException e) {
+      throw invalidCursor();
+    }
+  }
+
+  public static Long decodeIdCursor(String cursor) {
+    if (cursor == null) {
+      return 0L;
+    }
+    try {
+      return Long.valueOf(decodeCursor(cursor, 1)[0]);
+    } catch (NumberFormatException e) {
+      throw invalidCursor();
+    }
+  }
+
+  private static IllegalArgumentException invalidCursor() {
+    return new IllegalArgumentException("Le curseur de pagination est invalide");
+  }
+}
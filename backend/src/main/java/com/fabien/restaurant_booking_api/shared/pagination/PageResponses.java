@@ -0,0 +1,53 @@
+package com.fabien.restaurant_booking_api.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Le corps reste un tableau JSON ; la page suivante est annoncée par l'en-tête {@code Link}
+ * ({@code rel="next"}) et le curseur brut par {@code X-Next-Cursor}.
+ */
+public final class PageResponses {
+
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private PageResponses() {
+  }
+
+  public static <T, R> ResponseEntity<List<R>> ok(KeysetPage<T> page, Function<T, R> mapper) {
+    return ok(page, mapper, ServletUriComponentsBuilder::fromCurrentRequest);
+  }
+
+  /**
+   * Variante WebFlux : la requête courante n'est pas liée au thread et doit être fournie.
+   */
+  public static <T, R> ResponseEntity<List<R>> ok(KeysetPage<T> page, Function<T, R> mapper,
+      ServerHttpRequest request) {
+    return ok(page, mapper, () -> UriComponentsBuilder.fromUri(request.getURI()));
+  }
+
+  private static <T, R> ResponseEntity<List<R>> ok(KeysetPage<T> page, Function<T, R> mapper,
+      Supplier<UriComponentsBuilder> currentRequest) {
+    List<R> body = page.items()
+        .stream()
+        .map(mapper)
+        .toList();
+    if (!page.hasNext()) {
+      return ResponseEntity.ok(body);
+    }
+
+    String next = currentRequest.get()
+        .replaceQueryParam("after", page.nextCursor())
+        .toUriString();
+    return ResponseEntity.ok()
+        .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+        .header(NEXT_CURSOR_HEADER, page.nextCursor())
+        .body(body);
+  }
+}
@@ -0,0 +1,26 @@
+package com.fabien.restaurant_booking_api.shared.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+/**
+ * Identifiants pour les insertions en SQL natif, tirés du générateur de l'entité : avec
+ * {@link PooledSequence}, la séquence n'est sollicitée qu'une fois par bloc, comme pour un persist.
+ */
+public final class GeneratedIds {
+
+  private GeneratedIds() {
+  }
+
+  public static Long next(EntityManager entityManager, Object entity) {
+    SharedSessionContractImplementor session = entityManager.unwrap(
+        SharedSessionContractImplementor.class);
+    BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+        .getMappingMetamodel()
+        .getEntityDescriptor(entity.getClass())
+        .getGenerator();
+    return (Long) generator.generate(session, entity, null, EventType.INSERT);
+  }
+}
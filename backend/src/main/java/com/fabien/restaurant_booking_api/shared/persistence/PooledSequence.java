@@ -0,0 +1,27 @@
+package com.fabien.restaurant_booking_api.shared.persistence;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Identifiant généré par une séquence avec l'optimiseur pooled-lo.
+ * <p>
+ * Contrairement à IDENTITY, Hibernate connaît l'identifiant avant l'INSERT : les insertions
+ * peuvent donc être regroupées en batchs JDBC, et la séquence n'est interrogée qu'une fois par
+ * bloc d'identifiants (voir {@link PooledSequenceGenerator}).
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+
+  /**
+   * Nom de la séquence en base.
+   */
+  String name();
+}
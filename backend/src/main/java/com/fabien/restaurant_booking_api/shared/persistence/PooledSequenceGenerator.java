@@ -0,0 +1,38 @@
+package com.fabien.restaurant_booking_api.shared.persistence;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Générateur de séquence pooled-lo dont la taille d'allocation est lue dans la configuration
+ * Hibernate ({@value #ALLOCATION_SIZE_SETTING}), et non figée dans l'annotation de chaque entité.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+  public static final String ALLOCATION_SIZE_SETTING = "restaurant.id.allocation-size";
+  public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+  private final String sequenceName;
+
+  public PooledSequenceGenerator(PooledSequence config) {
+    this.sequenceName = config.name();
+  }
+
+  @Override
+  public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry)
+      throws MappingException {
+    int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+        .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+
+    parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+    parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+    parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+    super.configure(type, parameters, serviceRegistry);
+  }
+}
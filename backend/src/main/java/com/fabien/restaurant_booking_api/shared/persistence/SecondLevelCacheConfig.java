@@ -0,0 +1,61 @@
+package com.fabien.restaurant_booking_api.shared.persistence;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache de second niveau Hibernate pour les données de référence (restaurants et tables).
+ * <p>
+ * Les régions sont créées ici sur un CacheManager Caffeine propre au contexte, bornées à
+ * {@code restaurant.cache.max-entries} entrées avec éviction par taille, puis transmises à
+ * Hibernate. La région des horodatages de mise à jour n'est pas bornée : une entrée évincée
+ * rendrait valides des résultats de requête périmés.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  public static final String RESTAURANT_REGION = "restaurants";
+  public static final String DINING_TABLE_REGION = "dining_tables";
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+      @Value("${restaurant.cache.max-entries:10000}") long maxEntries) {
+    CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    CacheManager cacheManager = provider.getCacheManager(
+        URI.create("restaurant-booking-api:" + UUID.randomUUID()), getClass().getClassLoader());
+
+    cacheManager.createCache(RESTAURANT_REGION, configuration(OptionalLong.of(maxEntries)));
+    cacheManager.createCache(DINING_TABLE_REGION, configuration(OptionalLong.of(maxEntries)));
+    cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        configuration(OptionalLong.of(maxEntries)));
+    cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        configuration(OptionalLong.empty()));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager cacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+  }
+
+  private static CaffeineConfiguration<Object, Object> configuration(OptionalLong maximumSize) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(maximumSize);
+    // Hibernate stocke déjà des entrées désassemblées : inutile de les recopier à chaque accès
+    configuration.setStoreByValue(false);
+    configuration.setStatisticsEnabled(true);
+    return configuration;
+  }
+}
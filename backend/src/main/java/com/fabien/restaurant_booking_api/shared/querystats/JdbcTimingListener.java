@@ -0,0 +1,37 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Mesure le temps passé dans les exécutions JDBC (requêtes et batchs) d'une session Hibernate.
+ * Instancié par Hibernate pour chaque session, via {@code hibernate.session.events.auto}.
+ */
+public class JdbcTimingListener extends BaseSessionEventListener {
+
+  private long executionStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    recordSinceStart();
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    recordSinceStart();
+  }
+
+  private void recordSinceStart() {
+    long elapsed = System.nanoTime() - executionStart;
+    RequestQueryStats.current().ifPresent(stats -> stats.recordJdbcTime(elapsed));
+  }
+}
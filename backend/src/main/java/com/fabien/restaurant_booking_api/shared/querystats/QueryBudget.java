@@ -0,0 +1,21 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Nombre maximal d'instructions SQL qu'une méthode de contrôleur peut émettre par requête HTTP.
+ * <p>
+ * Hors mode strict ({@code restaurant.query-budget.strict}), un dépassement est seulement
+ * journalisé ; en mode strict, l'instruction en trop fait échouer la requête.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+  int max();
+}
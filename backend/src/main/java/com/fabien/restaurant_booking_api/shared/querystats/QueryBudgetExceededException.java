@@ -0,0 +1,12 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+/**
+ * Levée en mode strict quand une requête HTTP dépasse son {@link QueryBudget}. Volontairement hors
+ * des exceptions traduites par le gestionnaire global : la requête aboutit en 500.
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+  public QueryBudgetExceededException(String handler, int max, String sql) {
+    super("Budget de " + max + " instructions SQL dépassé par " + handler + " : " + sql);
+  }
+}
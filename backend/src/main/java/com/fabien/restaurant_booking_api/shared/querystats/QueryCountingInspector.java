@@ -0,0 +1,16 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Compte chaque instruction préparée par Hibernate dans les statistiques de la requête HTTP en
+ * cours, sans modifier le SQL.
+ */
+public class QueryCountingInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    RequestQueryStats.current().ifPresent(stats -> stats.recordStatement(sql));
+    return sql;
+  }
+}
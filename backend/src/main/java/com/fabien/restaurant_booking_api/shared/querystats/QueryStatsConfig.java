@@ -0,0 +1,43 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Comptage des instructions SQL et du temps JDBC par requête HTTP.
+ * <p>
+ * {@code restaurant.query-budget.strict} fait échouer une requête qui dépasse son
+ * {@link QueryBudget} (activé pour les tests) ; {@code repeat-threshold} est le nombre
+ * d'exécutions d'une même instruction à partir duquel la requête est signalée comme N+1 probable.
+ */
+@Configuration
+public class QueryStatsConfig implements WebMvcConfigurer {
+
+  private final boolean strict;
+  private final int repeatThreshold;
+
+  public QueryStatsConfig(@Value("${restaurant.query-budget.strict:false}") boolean strict,
+      @Value("${restaurant.query-budget.repeat-threshold:5}") int repeatThreshold) {
+    this.strict = strict;
+    this.repeatThreshold = repeatThreshold;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new QueryStatsInterceptor(strict, repeatThreshold));
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer queryStatsCustomizer() {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingInspector());
+      properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+          JdbcTimingListener.class.getName());
+    };
+  }
+}
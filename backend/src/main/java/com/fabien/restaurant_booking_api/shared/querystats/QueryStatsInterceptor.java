@@ -0,0 +1,78 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Ouvre les statistiques SQL d'une requête avant l'appel du contrôleur, puis les publie à la fin :
+ * en-tête {@code Server-Timing} si la réponse n'est pas encore engagée (sinon
+ * {@link ServerTimingAdvice} l'a posé avant l'écriture du corps) et une ligne de log structurée.
+ * <p>
+ * Le traitement asynchrone (export NDJSON) s'exécute sur un autre thread : il n'est pas compté.
+ */
+@Slf4j
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+
+  static final String SERVER_TIMING = "Server-Timing";
+
+  private final boolean strict;
+  private final int repeatThreshold;
+
+  public QueryStatsInterceptor(boolean strict, int repeatThreshold) {
+    this.strict = strict;
+    this.repeatThreshold = repeatThreshold;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (handler instanceof HandlerMethod method) {
+      QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+      RequestQueryStats.open(
+          method.getBeanType().getSimpleName() + "." + method.getMethod().getName(),
+          budget == null ? null : budget.max(), strict);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    RequestQueryStats.current().ifPresent(stats -> {
+      if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+        response.setHeader(SERVER_TIMING, stats.toServerTiming());
+      }
+      report(request, response, stats);
+    });
+    RequestQueryStats.close();
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+      HttpServletResponse response, Object handler) {
+    RequestQueryStats.close();
+  }
+
+  private void report(HttpServletRequest request, HttpServletResponse response,
+      RequestQueryStats stats) {
+    Map.Entry<String, Integer> repeated = stats.mostRepeated().orElse(Map.entry("", 0));
+    boolean suspicious = stats.isOverBudget() || repeated.getValue() >= repeatThreshold;
+
+    if (suspicious) {
+      log.warn("sql_stats handler={} method={} uri={} status={} statements={} jdbc_ms={} "
+              + "budget={} max_repeat={} repeated_sql=\"{}\"", stats.getHandler(),
+          request.getMethod(), request.getRequestURI(), response.getStatus(),
+          stats.getStatements(), String.format("%.2f", stats.getJdbcMillis()), stats.getBudget(),
+          repeated.getValue(), repeated.getKey());
+    } else {
+      log.info("sql_stats handler={} method={} uri={} status={} statements={} jdbc_ms={} "
+              + "budget={} max_repeat={}", stats.getHandler(), request.getMethod(),
+          request.getRequestURI(), response.getStatus(), stats.getStatements(),
+          String.format("%.2f", stats.getJdbcMillis()), stats.getBudget(), repeated.getValue());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Instructions SQL et temps JDBC cumulés pendant une requête HTTP, attachés au thread qui la
+ * traite.
+ * <p>
+ * Hibernate alimente les statistiques depuis ce même thread ({@link QueryCountingInspector},
+ * {@link JdbcTimingListener}) : hors d'une requête ouverte par {@link #open}, rien n'est compté.
+ */
+public final class RequestQueryStats {
+
+  private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+  private final String handler;
+  private final Integer budget;
+  private final boolean strict;
+
+  private final Map<String, Integer> executionsBySql = new HashMap<>();
+  private int statements;
+  private long jdbcNanos;
+
+  private RequestQueryStats(String handler, Integer budget, boolean strict) {
+    this.handler = handler;
+    this.budget = budget;
+    this.strict = strict;
+  }
+
+  /**
+   * @param budget nombre maximal d'instructions, null si la méthode n'en déclare pas
+   */
+  public static RequestQueryStats open(String handler, Integer budget, boolean strict) {
+    RequestQueryStats stats = new RequestQueryStats(handler, budget, strict);
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  public static Optional<RequestQueryStats> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  public static void close() {
+    CURRENT.remove();
+  }
+
+  void recordStatement(String sql) {
+    statements++;
+    executionsBySql.merge(sql, 1, Integer::sum);
+    if (strict && isOverBudget()) {
+      throw new QueryBudgetExceededException(handler, budget, sql);
+    }
+  }
+
+  void recordJdbcTime(long nanos) {
+    jdbcNanos += nanos;
+  }
+
+  public boolean isOverBudget() {
+    return budget != null && statements > budget;
+  }
+
+  /**
+   * @return l'instruction la plus répétée et son nombre d'exécutions, signe d'un N+1 quand il
+   * dépasse quelques unités
+   */
+  public Optional<Map.Entry<String, Integer>> mostRepeated() {
+    return executionsBySql.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
+  }
+
+  /**
+   * @return valeur de l'en-tête {@code Server-Timing}, lisible dans les outils de développement du
+   * navigateur
+   */
+  public String toServerTiming() {
+    return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d SQL\"", getJdbcMillis(), statements);
+  }
+
+  public String getHandler() {
+    return handler;
+  }
+
+  public Integer getBudget() {
+    return budget;
+  }
+
+  public int getStatements() {
+    return statements;
+  }
+
+  public double getJdbcMillis() {
+    return jdbcNanos / 1_000_000.0;
+  }
+}
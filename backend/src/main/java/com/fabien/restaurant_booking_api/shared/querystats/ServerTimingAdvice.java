@@ -0,0 +1,33 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Pose l'en-tête {@code Server-Timing} juste avant l'écriture du corps : une fois celui-ci écrit,
+ * la réponse est engagée et les en-têtes ne peuvent plus changer. Les accès base sont terminés à
+ * ce stade (pas d'open-in-view).
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+      MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request, ServerHttpResponse response) {
+    RequestQueryStats.current().ifPresent(stats -> response.getHeaders()
+        .set(QueryStatsInterceptor.SERVER_TIMING, stats.toServerTiming()));
+    return body;
+  }
+}
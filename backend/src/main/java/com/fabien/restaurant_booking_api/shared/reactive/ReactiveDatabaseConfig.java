@@ -0,0 +1,67 @@
+package com.fabien.restaurant_booking_api.shared.reactive;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Socle du profil {@code reactive} : serveur Netty et accès R2DBC à la même base que JPA.
+ * <p>
+ * Le pool R2DBC reste interne à cette configuration et n'est pas exposé comme bean
+ * {@code ConnectionFactory} : sa présence désactiverait la source de données JDBC, dont dépendent
+ * toujours Hibernate et l'initialisation du schéma.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+  private ConnectionPool connectionPool;
+
+  /**
+   * Tomcat, présent pour le mode servlet, serait sinon retenu comme serveur réactif.
+   */
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  @Bean
+  public DatabaseClient reactiveDatabaseClient(
+      @Value("${restaurant.r2dbc.url}") String url,
+      @Value("${spring.datasource.username}") String username,
+      @Value("${spring.datasource.password}") String password,
+      @Value("${restaurant.r2dbc.pool.max-size:20}") int maxSize,
+      @Value("${restaurant.r2dbc.pool.max-idle-time-ms:1800000}") long maxIdleTimeMillis) {
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+        .mutate()
+        .option(USER, username)
+        .option(PASSWORD, password)
+        .build();
+    connectionPool = new ConnectionPool(
+        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .maxSize(maxSize)
+            .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+            .build());
+    return DatabaseClient.create(connectionPool);
+  }
+
+  @Override
+  public void destroy() {
+    if (connectionPool != null) {
+      connectionPool.dispose();
+    }
+  }
+}
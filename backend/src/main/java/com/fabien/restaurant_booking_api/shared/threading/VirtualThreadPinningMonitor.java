@@ -0,0 +1,142 @@
+package com.fabien.restaurant_booking_api.shared.threading;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Détecte les threads virtuels épinglés à leur thread porteur (bloqués dans un bloc
+ * {@code synchronized} ou un appel natif) à partir de l'événement JFR
+ * {@code jdk.VirtualThreadPinned}.
+ * <p>
+ * Chaque site d'épinglage (premier cadre hors JDK de la pile) est journalisé en WARN à sa première
+ * occurrence, puis seulement compté : un pilote JDBC ou une bibliothèque qui épingle sur le chemin
+ * d'une requête apparaît une fois dans les logs, avec sa pile.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 12;
+
+  private final Duration threshold;
+  private final LongAdder pinnedEvents = new LongAdder();
+  private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${restaurant.virtual-threads.pinning.threshold-ms:20}") long thresholdMillis) {
+    this.threshold = Duration.ofMillis(thresholdMillis);
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(PINNED_EVENT, this::onPinned);
+    recording.startAsync();
+    stream = recording;
+    log.info("Surveillance de l'épinglage des threads virtuels active (seuil {} ms)",
+        threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("jvm.threads.virtual.pinned", this,
+            VirtualThreadPinningMonitor::getPinnedEvents)
+        .description("Épinglages de threads virtuels au-delà du seuil")
+        .register(registry);
+  }
+
+  public long getPinnedEvents() {
+    return pinnedEvents.sum();
+  }
+
+  /**
+   * @return nombre d'épinglages par site, le site étant le premier cadre hors JDK de la pile
+   */
+  public Map<String, Long> getPinnedSites() {
+    return pinnedSites.entrySet()
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  void onPinned(RecordedEvent event) {
+    List<RecordedFrame> frames = framesOf(event.getStackTrace());
+    String site = siteOf(frames);
+
+    LongAdder count = pinnedSites.computeIfAbsent(site, s -> new LongAdder());
+    count.increment();
+    pinnedEvents.increment();
+    if (count.sum() == 1) {
+      log.warn("Thread virtuel épinglé pendant {} ms dans {}\n{}",
+          event.getDuration().toMillis(), site, format(frames));
+    } else if (log.isDebugEnabled()) {
+      log.debug("Thread virtuel épinglé pendant {} ms dans {}", event.getDuration().toMillis(),
+          site);
+    }
+  }
+
+  private static List<RecordedFrame> framesOf(RecordedStackTrace stackTrace) {
+    return stackTrace == null ? List.of() : stackTrace.getFrames();
+  }
+
+  private static String siteOf(List<RecordedFrame> frames) {
+    return frames.stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .filter(frame -> !isJdkFrame(frame))
+        .findFirst()
+        .map(VirtualThreadPinningMonitor::describe)
+        .orElse("inconnu");
+  }
+
+  private static boolean isJdkFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+  }
+
+  private static String format(List<RecordedFrame> frames) {
+    return frames.stream()
+        .limit(LOGGED_FRAMES)
+        .map(frame -> "\tat " + describe(frame))
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+        + ":" + frame.getLineNumber();
+  }
+}
@@ -1,13 +1,28 @@
 package com.fabien.restaurant_booking_api.table.application;
 
+import com.fabien.restaurant_booking_api.booking.application.BookingAvailabilityIndex;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,6 +30,8 @@ public class DiningTableService {
 
   private final DiningTableRepository diningTableRepository;
   private final RestaurantService restaurantService;
+  private final ChangeCounters changeCounters;
+  private final BookingAvailabilityIndex availabilityIndex;
 
   @Value("${restaurant.table.capacity.min}")
   private Integer minCapacity;
@@ -22,41 +39,83 @@ public class DiningTableService {
   @Value("${restaurant.table.capacity.max}")
   private Integer maxCapacity;
 
-  public List<DiningTable> findAll() {
-    return diningTableRepository.findAll();
+  /**
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public KeysetPage<DiningTable> findAll(String after, Integer limit) {
+    Limit page = KeysetPagination.pageLimit(limit);
+    List<DiningTable> rows = diningTableRepository.findByIdGreaterThanOrderByIdAsc(
+        KeysetPagination.decodeIdCursor(after), KeysetPagination.fetchLimit(page));
+    return KeysetPage.of(rows, page, table -> KeysetPagination.encodeCursor(table.getId()));
   }
 
+  /**
+   * Une table servie par le cache de second niveau n'applique pas le graphe d'entités : son
+   * restaurant, lui aussi en cache, est initialisé avant la fin de la transaction.
+   */
+  @Transactional(readOnly = true)
   public DiningTable findById(Long id) {
-    return diningTableRepository.findById(id)
-        .orElseThrow(() -> new EntityNotFoundException("Dining table not found with id : " + id));
+    DiningTable table = getById(id);
+    Hibernate.initialize(table.getRestaurant());
+    return table;
   }
 
   public DiningTable create(DiningTable diningTable) {
     validateCapacity(diningTable.getCapacity());
     restaurantService.validateExists(diningTable.getRestaurant().getId());
 
-    return diningTableRepository.save(diningTable);
-
+    DiningTable saved = diningTableRepository.save(diningTable);
+    changeCounters.increment(ReferenceCollection.DINING_TABLES);
+    return saved;
   }
 
   public DiningTable update(Long id, DiningTable diningTable) {
-    findById(id);
+    DiningTable existing = getById(id);
     validateCapacity(diningTable.getCapacity());
-    restaurantService.validateExists(diningTable.getRestaurant().getId());
+    Restaurant restaurant = restaurantService.findById(diningTable.getRestaurant().getId());
     diningTable.setId(id);
-
-    return diningTableRepository.save(diningTable);
-
+    // Sans la version lue, save() prendrait la table pour une nouvelle entité
+    diningTable.setVersion(existing.getVersion());
+
+    DiningTable saved = diningTableRepository.save(diningTable);
+    // merge renvoie un proxy paresseux pour le restaurant : on reprend celui déjà chargé
+    saved.setRestaurant(restaurant);
+    changeCounters.increment(ReferenceCollection.DINING_TABLES);
+    // La table a pu changer de restaurant : sa position dans l'index n'est plus valable
+    availabilityIndex.forget(id);
+    return saved;
   }
 
   public void deleteById(Long id) {
-    findById(id);
+    getById(id);
     diningTableRepository.deleteById(id);
+    changeCounters.increment(ReferenceCollection.DINING_TABLES);
+    availabilityIndex.forget(id);
   }
 
+  @Transactional(readOnly = true)
   public List<DiningTable> findByRestaurantId(Long restaurantId) {
     restaurantService.validateExists(restaurantId);
-    return diningTableRepository.findByRestaurantId(restaurantId);
+    List<DiningTable> tables = diningTableRepository.findByRestaurantId(restaurantId);
+    tables.forEach(table -> Hibernate.initialize(table.getRestaurant()));
+    return tables;
+  }
+
+  public List<DiningTable> findFreeTables(Long restaurantId, LocalDate date,
+      TimeSlotType timeSlotType, Integer partySize) {
+    restaurantService.validateExists(restaurantId);
+    if (partySize < 1) {
+      throw new IllegalArgumentException("Le nombre de personnes doit être au moins 1");
+    }
+
+    return diningTableRepository.findFreeTables(restaurantId, date, timeSlotType, partySize,
+        DiningTableStatus.AVAILABLE);
+  }
+
+  public long countAvailableByRestaurantId(Long restaurantId) {
+    restaurantService.validateExists(restaurantId);
+    return diningTableRepository.countByRestaurantIdAndStatus(restaurantId,
+        DiningTableStatus.AVAILABLE);
   }
 
   private void validateCapacity(Integer capacity) {
@@ -66,9 +125,22 @@ public class DiningTableService {
     }
   }
 
+  public Set<Long> findExistingIds(Collection<Long> ids) {
+    return diningTableRepository.findAllById(ids)
+        .stream()
+        .map(DiningTable::getId)
+        .collect(Collectors.toSet());
+  }
+
   public void validateExists(Long id) {
-    if (!diningTableRepository.existsById(id)) {
+    // findById plutôt qu'existsById : la recherche par clé est servie par le cache
+    if (diningTableRepository.findById(id).isEmpty()) {
       throw new EntityNotFoundException("Table not found with id : " + id);
     }
   }
+
+  private DiningTable getById(Long id) {
+    return diningTableRepository.findById(id)
+        .orElseThrow(() -> new EntityNotFoundException("Dining table not found with id : " + id));
+  }
 }
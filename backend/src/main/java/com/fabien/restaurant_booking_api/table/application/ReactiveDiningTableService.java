@@ -0,0 +1,77 @@
+package com.fabien.restaurant_booking_api.table.application;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.ReactiveRestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import com.fabien.restaurant_booking_api.table.domain.ReactiveDiningTableRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectures de {@link DiningTableService} en non bloquant, avec les mêmes règles et les mêmes
+ * messages d'erreur. Les erreurs de validation sont émises comme signal d'erreur, jamais levées à
+ * l'appel.
+ */
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDiningTableService {
+
+  private final ReactiveDiningTableRepository diningTableRepository;
+  private final ReactiveRestaurantRepository restaurantRepository;
+
+  /**
+   * @param after curseur renvoyé par la page précédente, null pour la première page
+   */
+  public Mono<KeysetPage<DiningTable>> findAll(String after, Integer limit) {
+    return Mono.defer(() -> {
+      Limit page = KeysetPagination.pageLimit(limit);
+      return diningTableRepository.findByIdGreaterThanOrderByIdAsc(
+              KeysetPagination.decodeIdCursor(after), KeysetPagination.fetchLimit(page))
+          .collectList()
+          .map(rows -> KeysetPage.of(rows, page,
+              table -> KeysetPagination.encodeCursor(table.getId())));
+    });
+  }
+
+  public Mono<DiningTable> findById(Long id) {
+    return diningTableRepository.findById(id)
+        .switchIfEmpty(Mono.error(
+            () -> new EntityNotFoundException("Dining table not found with id : " + id)));
+  }
+
+  public Flux<DiningTable> findByRestaurantId(Long restaurantId) {
+    return validateRestaurantExists(restaurantId)
+        .thenMany(Flux.defer(() -> diningTableRepository.findByRestaurantId(restaurantId)));
+  }
+
+  public Flux<DiningTable> findFreeTables(Long restaurantId, LocalDate date,
+      TimeSlotType timeSlotType, Integer partySize) {
+    return validateRestaurantExists(restaurantId)
+        .then(Mono.fromRunnable(() -> {
+          if (partySize < 1) {
+            throw new IllegalArgumentException("Le nombre de personnes doit être au moins 1");
+          }
+        }))
+        .thenMany(Flux.defer(() -> diningTableRepository.findFreeTables(restaurantId, date,
+            timeSlotType, partySize, DiningTableStatus.AVAILABLE)));
+  }
+
+  private Mono<Void> validateRestaurantExists(Long restaurantId) {
+    return restaurantRepository.existsById(restaurantId)
+        .filter(Boolean::booleanValue)
+        .switchIfEmpty(Mono.error(
+            () -> new EntityNotFoundException("Restaurant not found with id : " + restaurantId)))
+        .then();
+  }
+}
@@ -1,24 +1,35 @@
 package com.fabien.restaurant_booking_api.table.domain;
 
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.shared.persistence.PooledSequence;
+import com.fabien.restaurant_booking_api.shared.persistence.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "dining_tables")
+@Table(name = "dining_tables", indexes = {
+    @Index(name = "idx_dining_tables_restaurant", columnList = "restaurant_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE,
+    region = SecondLevelCacheConfig.DINING_TABLE_REGION)
 @Data
 public class DiningTable {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @PooledSequence(name = "dining_tables_seq")
   private Long id;
 
   private Integer capacity;
@@ -26,7 +37,10 @@ public class DiningTable {
   @Enumerated(EnumType.STRING)
   private DiningTableStatus status;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "restaurant_id")
   private Restaurant restaurant;
+
+  @Version
+  private Long version;
 }
@@ -1,12 +1,63 @@
 package com.fabien.restaurant_booking_api.table.domain;
 
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+/**
+ * {@code DiningTable.restaurant} est paresseux : les méthodes dont le résultat est renvoyé au
+ * client chargent le restaurant dans la même requête.
+ * <p>
+ * Les tables sont dans le cache de second niveau ; {@link #findByRestaurantId(Long)} passe en plus
+ * par le cache de requêtes, invalidé par Hibernate à chaque écriture sur {@code dining_tables}.
+ */
 public interface DiningTableRepository extends JpaRepository<DiningTable, Long> {
 
+  @Override
+  @EntityGraph(attributePaths = "restaurant")
+  Optional<DiningTable> findById(Long id);
+
+  @EntityGraph(attributePaths = "restaurant")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<DiningTable> findByRestaurantId(
       Long restaurantId
   );
 
+  @EntityGraph(attributePaths = "restaurant")
+  List<DiningTable> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+  long countByRestaurantIdAndStatus(Long restaurantId, DiningTableStatus status);
+
+  @Query("""
+      SELECT t FROM DiningTable t
+      JOIN FETCH t.restaurant r
+      WHERE r.id = :restaurantId
+        AND t.status = :status
+        AND t.capacity >= :partySize
+        AND NOT EXISTS (
+          SELECT 1 FROM Booking b
+          WHERE b.diningTable = t
+            AND b.date = :date
+            AND b.timeSlotType = :timeSlotType
+            AND b.status <> com.fabien.restaurant_booking_api.booking.domain.BookingStatus.CANCELED
+        )
+      ORDER BY t.capacity, t.id
+      """)
+  List<DiningTable> findFreeTables(
+      @Param("restaurantId") Long restaurantId,
+      @Param("date") LocalDate date,
+      @Param("timeSlotType") TimeSlotType timeSlotType,
+      @Param("partySize") Integer partySize,
+      @Param("status") DiningTableStatus status
+  );
+
 }
@@ -0,0 +1,27 @@
+package com.fabien.restaurant_booking_api.table.domain;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.LocalDate;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pendant non bloquant des lectures de {@link DiningTableRepository}, servi par R2DBC. Les tables
+ * renvoyées portent leur restaurant, lu dans la même requête.
+ */
+public interface ReactiveDiningTableRepository {
+
+  Mono<DiningTable> findById(Long id);
+
+  Flux<DiningTable> findByRestaurantId(Long restaurantId);
+
+  Flux<DiningTable> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+  /**
+   * @see DiningTableRepository#findFreeTables(Long, LocalDate, TimeSlotType, Integer,
+   * DiningTableStatus)
+   */
+  Flux<DiningTable> findFreeTables(Long restaurantId, LocalDate date, TimeSlotType timeSlotType,
+      Integer partySize, DiningTableStatus status);
+}
@@ -1,5 +1,10 @@
 package com.fabien.restaurant_booking_api.table.infrastructure;
 
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ETags;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
+import com.fabien.restaurant_booking_api.shared.querystats.QueryBudget;
 import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
 import com.fabien.restaurant_booking_api.table.application.DiningTableRequest;
 import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
@@ -9,6 +14,8 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,30 +25,40 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/tables")
-@CrossOrigin("http://localhost:4200")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = PageResponses.NEXT_CURSOR_HEADER)
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequiredArgsConstructor
 public class DiningTableController {
 
   private final DiningTableService diningTableService;
+  private final ChangeCounters changeCounters;
 
   @GetMapping
-  public ResponseEntity<List<DiningTableResponse>> findAll() {
-    List<DiningTableResponse> tableResponses = diningTableService.findAll()
-        .stream()
-        .map(DiningTableMapper::toResponse)
-        .toList();
-    return ResponseEntity.ok(tableResponses);
+  @QueryBudget(max = 2)
+  public ResponseEntity<List<DiningTableResponse>> findAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit,
+      WebRequest request) {
+    if (request.checkNotModified(listETag())) {
+      return null;
+    }
+    return PageResponses.ok(diningTableService.findAll(after, limit),
+        DiningTableMapper::toResponse);
   }
 
   @GetMapping("/{id}")
   public ResponseEntity<DiningTableResponse> findById(@PathVariable Long id) {
     DiningTable table = diningTableService.findById(id);
-    return ResponseEntity.ok(DiningTableMapper.toResponse(table));
+    return ResponseEntity.ok()
+        .eTag(ETags.strong(table.getVersion(), table.getRestaurant().getVersion()))
+        .body(DiningTableMapper.toResponse(table));
   }
 
   @PostMapping
@@ -71,12 +88,24 @@ public class DiningTableController {
   }
 
   @GetMapping("/restaurant/{restaurantId}")
+  @QueryBudget(max = 3)
   public ResponseEntity<List<DiningTableResponse>> findByRestaurantId(
-      @PathVariable Long restaurantId) {
+      @PathVariable Long restaurantId, WebRequest request) {
+    if (request.checkNotModified(listETag())) {
+      return null;
+    }
     List<DiningTableResponse> tableResponses = diningTableService.findByRestaurantId(restaurantId)
         .stream()
         .map(DiningTableMapper::toResponse)
         .toList();
     return ResponseEntity.ok(tableResponses);
   }
+
+  /**
+   * Chaque table embarque son restaurant : l'ETag des listes change aussi quand un restaurant est
+   * modifié ou supprimé, ce qui garantit qu'une liste d'un restaurant supprimé repasse en 404.
+   */
+  private String listETag() {
+    return changeCounters.eTag(ReferenceCollection.DINING_TABLES, ReferenceCollection.RESTAURANTS);
+  }
 }
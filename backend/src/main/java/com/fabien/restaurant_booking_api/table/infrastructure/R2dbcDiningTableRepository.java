@@ -0,0 +1,111 @@
+package com.fabien.restaurant_booking_api.table.infrastructure;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import com.fabien.restaurant_booking_api.table.domain.ReactiveDiningTableRepository;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Limit;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Les tables sont lues avec leur restaurant dans une seule requête, comme le graphe d'entités de
+ * {@code DiningTableRepository}. Les objets renvoyés ne sont attachés à aucun contexte de
+ * persistance et ne passent pas par le cache de second niveau.
+ */
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class R2dbcDiningTableRepository implements ReactiveDiningTableRepository {
+
+  private static final String SELECT_TABLE = """
+      SELECT t.id, t.capacity, t.status,
+             r.id AS restaurant_id, r.name AS restaurant_name, r.address AS restaurant_address,
+             r.phone_number AS restaurant_phone_number
+      FROM dining_tables t
+      JOIN restaurants r ON r.id = t.restaurant_id
+      """;
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Mono<DiningTable> findById(Long id) {
+    return databaseClient.sql(SELECT_TABLE + "WHERE t.id = :id")
+        .bind("id", id)
+        .map(R2dbcDiningTableRepository::toTable)
+        .one();
+  }
+
+  @Override
+  public Flux<DiningTable> findByRestaurantId(Long restaurantId) {
+    return databaseClient.sql(SELECT_TABLE + "WHERE t.restaurant_id = :restaurantId ORDER BY t.id")
+        .bind("restaurantId", restaurantId)
+        .map(R2dbcDiningTableRepository::toTable)
+        .all();
+  }
+
+  @Override
+  public Flux<DiningTable> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit) {
+    if (limit.isUnlimited()) {
+      return databaseClient.sql(SELECT_TABLE + "WHERE t.id > :id ORDER BY t.id")
+          .bind("id", id)
+          .map(R2dbcDiningTableRepository::toTable)
+          .all();
+    }
+    return databaseClient.sql(SELECT_TABLE + "WHERE t.id > :id ORDER BY t.id LIMIT :limit")
+        .bind("id", id)
+        .bind("limit", limit.max())
+        .map(R2dbcDiningTableRepository::toTable)
+        .all();
+  }
+
+  @Override
+  public Flux<DiningTable> findFreeTables(Long restaurantId, LocalDate date,
+      TimeSlotType timeSlotType, Integer partySize, DiningTableStatus status) {
+    return databaseClient.sql(SELECT_TABLE + """
+            WHERE t.restaurant_id = :restaurantId
+              AND t.status = :status
+              AND t.capacity >= :partySize
+              AND NOT EXISTS (
+                SELECT 1 FROM bookings b
+                WHERE b.dining_table_id = t.id
+                  AND b.date = :date
+                  AND b.time_slot_type = :timeSlotType
+                  AND b.status <> :canceled
+              )
+            ORDER BY t.capacity, t.id
+            """)
+        .bind("restaurantId", restaurantId)
+        .bind("status", status.name())
+        .bind("partySize", partySize)
+        .bind("date", date)
+        .bind("timeSlotType", timeSlotType.name())
+        .bind("canceled", BookingStatus.CANCELED.name())
+        .map(R2dbcDiningTableRepository::toTable)
+        .all();
+  }
+
+  private static DiningTable toTable(Readable row) {
+    Restaurant restaurant = new Restaurant();
+    restaurant.setId(row.get("restaurant_id", Long.class));
+    restaurant.setName(row.get("restaurant_name", String.class));
+    restaurant.setAddress(row.get("restaurant_address", String.class));
+    restaurant.setPhoneNumber(row.get("restaurant_phone_number", String.class));
+
+    DiningTable table = new DiningTable();
+    table.setId(row.get("id", Long.class));
+    table.setCapacity(row.get("capacity", Integer.class));
+    table.setStatus(DiningTableStatus.valueOf(row.get("status", String.class)));
+    table.setRestaurant(restaurant);
+    return table;
+  }
+}
@@ -0,0 +1,55 @@
+package com.fabien.restaurant_booking_api.table.infrastructure;
+
+import com.fabien.restaurant_booking_api.shared.pagination.PageResponses;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
+import com.fabien.restaurant_booking_api.table.application.ReactiveDiningTableService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectures des tables du profil {@code reactive}, aux mêmes URL et avec les mêmes réponses que
+ * {@link DiningTableController}.
+ */
+@RestController
+@RequestMapping("/api/tables")
+@CrossOrigin(origins = "http://localhost:4200", exposedHeaders = PageResponses.NEXT_CURSOR_HEADER)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDiningTableController {
+
+  private final ReactiveDiningTableService diningTableService;
+
+  @GetMapping
+  public Mono<ResponseEntity<List<DiningTableResponse>>> findAll(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit,
+      ServerHttpRequest request) {
+    return diningTableService.findAll(after, limit)
+        .map(page -> PageResponses.ok(page, DiningTableMapper::toResponse, request));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<DiningTableResponse>> findById(@PathVariable Long id) {
+    return diningTableService.findById(id)
+        .map(table -> ResponseEntity.ok(DiningTableMapper.toResponse(table)));
+  }
+
+  @GetMapping("/restaurant/{restaurantId}")
+  public Flux<DiningTableResponse> findByRestaurantId(@PathVariable Long restaurantId) {
+    return diningTableService.findByRestaurantId(restaurantId)
+        .map(DiningTableMapper::toResponse);
+  }
+}
@@ -0,0 +1,7 @@
+-- Exécuté après la génération du schéma par Hibernate (spring.jpa.defer-datasource-initialization).
+
+-- Une seule réservation active par table et par créneau : les réservations annulées ne bloquent
+-- plus le créneau et ne sont pas indexées.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_bookings_active_slot
+    ON bookings (dining_table_id, date, time_slot_type)
+    WHERE status <> 'CANCELED';
@@ -0,0 +1,122 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Charge un endpoint HTTP avec {@code concurrency} clients fermés (chacun enchaîne ses requêtes
+ * sans pause) pendant une durée fixe, et mesure débit et percentiles de latence.
+ * <p>
+ * Les clients tournent sur des threads virtuels : le côté client n'est jamais le facteur limitant,
+ * quel que soit le mode d'exécution du serveur mesuré.
+ */
+final class EndpointLoadRunner {
+
+  private final HttpClient client;
+
+  EndpointLoadRunner(HttpClient client) {
+    this.client = client;
+  }
+
+  /**
+   * @param requests fabrique de la n-ième requête, appelée concurremment
+   * @param success  statut HTTP attendu ; les autres réponses sont comptées en échec
+   */
+  Result run(String endpoint, int concurrency, Duration duration, IntFunction<HttpRequest> requests,
+      int success) throws Exception {
+    long deadline = System.nanoTime() + duration.toNanos();
+    AtomicInteger sequence = new AtomicInteger();
+
+    List<Future<Worker>> futures = new ArrayList<>(concurrency);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(executor.submit(() -> {
+          Worker worker = new Worker();
+          while (System.nanoTime() < deadline) {
+            HttpRequest request = requests.apply(sequence.getAndIncrement());
+            long start = System.nanoTime();
+            int status = send(request);
+            worker.record(System.nanoTime() - start, status == success);
+          }
+          return worker;
+        }));
+      }
+    }
+
+    long[] latencies = new long[0];
+    long failures = 0;
+    for (Future<Worker> future : futures) {
+      Worker worker = future.get();
+      latencies = concat(latencies, worker.latencies, worker.count);
+      failures += worker.failures;
+    }
+    Arrays.sort(latencies);
+    double seconds = duration.toNanos() / 1e9;
+    return new Result(endpoint, concurrency, latencies.length, failures,
+        latencies.length / seconds, percentileMillis(latencies, 0.50),
+        percentileMillis(latencies, 0.99));
+  }
+
+  private int send(HttpRequest request) {
+    try {
+      return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException e) {
+      return -1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return -1;
+    }
+  }
+
+  private static long[] concat(long[] left, long[] right, int rightLength) {
+    long[] result = Arrays.copyOf(left, left.length + rightLength);
+    System.arraycopy(right, 0, result, left.length, rightLength);
+    return result;
+  }
+
+  private static double percentileMillis(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1e6;
+  }
+
+  record Result(String endpoint, int concurrency, long requests, long failures,
+      double throughput, double p50Millis, double p99Millis) {
+
+    String toCsv(String mode) {
+      return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f", mode, endpoint,
+          concurrency, requests, failures, throughput, p50Millis, p99Millis);
+    }
+  }
+
+  private static final class Worker {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long failures;
+
+    void record(long latencyNanos, boolean succeeded) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (!succeeded) {
+        failures++;
+      }
+    }
+  }
+}
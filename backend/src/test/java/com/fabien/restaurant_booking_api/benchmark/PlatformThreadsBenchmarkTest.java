@@ -0,0 +1,17 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Référence : requêtes servies par le pool de threads plateforme de Tomcat.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "threading")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmarkTest extends ThreadingModeBenchmark {
+
+  @Override
+  protected String mode() {
+    return "platform";
+  }
+}
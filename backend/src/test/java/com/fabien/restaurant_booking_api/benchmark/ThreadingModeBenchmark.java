@@ -0,0 +1,179 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Compare le débit et le p99 des endpoints de création et de liste des réservations selon le mode
+ * d'exécution des requêtes (threads plateforme du pool Tomcat ou threads virtuels).
+ * <p>
+ * Désactivé par défaut (voir les sous-classes) : il faut une base PostgreSQL et plusieurs dizaines
+ * de secondes.
+ * <pre>
+ * mvn test -Dtest='*ThreadsBenchmarkTest' -Dbenchmark=threading
+ * </pre>
+ * Paramètres (propriétés système) : {@code benchmark.concurrency} (400), {@code benchmark.tables}
+ * (200), {@code benchmark.warmup-seconds} (5) et {@code benchmark.duration-seconds} (20). Les
+ * résultats sont ajoutés à {@code target/benchmarks/threading-mode.csv}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@DirtiesContext
+abstract class ThreadingModeBenchmark {
+
+  private static final Path RESULTS = Path.of("target", "benchmarks", "threading-mode.csv");
+  private static final String CSV_HEADER =
+      "mode,endpoint,concurrency,requests,failures,throughput_rps,p50_ms,p99_ms";
+  private static final int BOOKING_WINDOW_DAYS = 31;
+  private static final TimeSlotType[] SLOTS = TimeSlotType.values();
+
+  private final int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+  private final int tables = Integer.getInteger("benchmark.tables", 200);
+  private final Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+  private final Duration duration =
+      Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 20));
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private HttpClient client;
+  private EndpointLoadRunner runner;
+  private final List<Long> tableIds = new ArrayList<>();
+  private final AtomicInteger bookingSequence = new AtomicInteger();
+
+  /**
+   * @return libellé du mode mesuré, première colonne du fichier de résultats
+   */
+  protected abstract String mode();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    client = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    runner = new EndpointLoadRunner(client);
+
+    long restaurantId = post("/api/restaurants", Map.of(
+        "name", "Benchmark " + mode(),
+        "address", "1 rue du Banc d'Essai",
+        "phoneNumber", "0100000000"));
+    for (int i = 0; i < tables; i++) {
+      tableIds.add(post("/api/tables", Map.of(
+          "restaurantId", restaurantId,
+          "capacity", 4,
+          "status", "AVAILABLE")));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+  }
+
+  @Test
+  void booking_create_and_list() throws Exception {
+    // Numérotation partagée entre préchauffage et mesure : la mesure vise des créneaux encore
+    // libres
+    IntFunction<HttpRequest> createBooking =
+        n -> createBookingRequest(bookingSequence.getAndIncrement());
+
+    runner.run("POST /api/bookings", concurrency, warmup, createBooking, 201);
+    EndpointLoadRunner.Result create =
+        runner.run("POST /api/bookings", concurrency, duration, createBooking, 201);
+
+    IntFunction<HttpRequest> listBookings = n -> get("/api/bookings?limit=50");
+    runner.run("GET /api/bookings", concurrency, warmup, listBookings, 200);
+    EndpointLoadRunner.Result list =
+        runner.run("GET /api/bookings", concurrency, duration, listBookings, 200);
+
+    report(create, list);
+    assertThat(list.failures()).isZero();
+  }
+
+  /**
+   * La n-ième réservation vise un créneau (table, jour, service) distinct tant que la grille
+   * n'est pas épuisée ; au-delà, les conflits sont comptés en échec. Les numéros de téléphone
+   * tournent sur un millier de clients pour exercer l'upsert.
+   */
+  private HttpRequest createBookingRequest(int n) {
+    int slotCount = tables * BOOKING_WINDOW_DAYS * SLOTS.length;
+    int slot = Math.floorMod(n, slotCount);
+    Map<String, Object> body = Map.of(
+        "diningTableId", tableIds.get(slot % tables),
+        "date", LocalDate.now().plusDays(slot / tables % BOOKING_WINDOW_DAYS).toString(),
+        "timeSlotType", SLOTS[slot / (tables * BOOKING_WINDOW_DAYS)].name(),
+        "status", "IN_PROGRESS",
+        "customerName", "Client " + n % 1000,
+        "customerPhoneNumber", String.format("06%08d", n % 1000));
+    return HttpRequest.newBuilder(uri("/api/bookings"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+        .build();
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(uri(path)).GET().build();
+  }
+
+  private long post(String path, Map<String, Object> body) throws Exception {
+    HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+    assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+    return objectMapper.readTree(response.body()).get("id").asLong();
+  }
+
+  private String json(Map<String, Object> body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  private void report(EndpointLoadRunner.Result... results) throws IOException {
+    Files.createDirectories(RESULTS.getParent());
+    if (Files.notExists(RESULTS)) {
+      Files.writeString(RESULTS, CSV_HEADER + System.lineSeparator());
+    }
+    for (EndpointLoadRunner.Result result : results) {
+      String line = result.toCsv(mode());
+      Files.writeString(RESULTS, line + System.lineSeparator(), StandardOpenOption.APPEND);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Requêtes servies par des threads virtuels, avec le dimensionnement Hikari du profil
+ * {@code virtual-threads}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "threading")
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsBenchmarkTest extends ThreadingModeBenchmark {
+
+  @Override
+  protected String mode() {
+    return "virtual";
+  }
+}
@@ -0,0 +1,192 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityHubTest {
+
+  private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+  private final AvailabilityHub hub = new AvailabilityHub(4, 100);
+
+  @AfterEach
+  void tearDown() {
+    hub.destroy();
+  }
+
+  @Test
+  void publish_should_deliver_only_to_subscribers_of_the_restaurant() throws Exception {
+    // Given
+    BlockingQueue<AvailabilityChange> first = new LinkedBlockingQueue<>();
+    BlockingQueue<AvailabilityChange> other = new LinkedBlockingQueue<>();
+    hub.subscribe(1L, (change, dropped) -> first.add(change));
+    hub.subscribe(2L, (change, dropped) -> other.add(change));
+
+    // When
+    hub.publish(change(1L, 10L));
+
+    // Then
+    assertThat(first.poll(5, TimeUnit.SECONDS)).isEqualTo(change(1L, 10L));
+    assertThat(other.poll(100, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  void publish_should_drop_oldest_events_when_subscriber_is_slow() throws Exception {
+    // Given : l'abonné reste bloqué sur le premier événement
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+    BlockingQueue<Long> tables = new LinkedBlockingQueue<>();
+    BlockingQueue<Long> drops = new LinkedBlockingQueue<>();
+    hub.subscribe(1L, (change, dropped) -> {
+      tables.add(change.diningTableId());
+      drops.add(dropped);
+      blocked.countDown();
+      awaitQuietly(unblock);
+    });
+    hub.publish(change(1L, 0L));
+    assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // When
+    for (long table = 1; table <= 40; table++) {
+      hub.publish(change(1L, table));
+    }
+    unblock.countDown();
+
+    // Then : seuls les 4 derniers restent, le premier d'entre eux annonce les 36 écartés
+    for (int i = 0; i < 5; i++) {
+      assertThat(tables.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+    assertThat(hub.getDroppedEvents()).isEqualTo(36);
+    assertThat(drops).containsExactly(0L, 36L, 0L, 0L, 0L);
+    assertThat(tables).isEmpty();
+  }
+
+  @Test
+  void subscription_should_close_when_listener_fails() throws Exception {
+    // Given
+    CountDownLatch failed = new CountDownLatch(1);
+    AvailabilityHub.Subscription subscription = hub.subscribe(1L, (change, dropped) -> {
+      failed.countDown();
+      throw new IOException("client déconnecté");
+    });
+
+    // When
+    hub.publish(change(1L, 10L));
+
+    // Then
+    assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 50 && !subscription.isClosed(); i++) {
+      Thread.sleep(10);
+    }
+    assertThat(subscription.isClosed()).isTrue();
+    assertThat(hub.subscriberCount()).isZero();
+  }
+
+  @Test
+  void close_should_unsubscribe() {
+    // Given
+    AvailabilityHub.Subscription subscription = hub.subscribe(1L, (change, dropped) -> {
+    });
+
+    // When
+    subscription.close();
+
+    // Then
+    assertThat(hub.subscriberCount()).isZero();
+  }
+
+  @Test
+  void subscription_should_send_heartbeat_when_no_event_is_published() throws Exception {
+    // Given
+    CountDownLatch heartbeats = new CountDownLatch(2);
+
+    // When
+    hub.subscribe(1L, new AvailabilityHub.Listener() {
+      @Override
+      public void onChange(AvailabilityChange change, long dropped) {
+      }
+
+      @Override
+      public void onHeartbeat() {
+        heartbeats.countDown();
+      }
+    });
+
+    // Then
+    assertThat(heartbeats.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void subscription_should_notify_listener_once_when_heartbeat_fails() throws Exception {
+    // Given : le client est parti sans fermer la connexion
+    AtomicInteger closes = new AtomicInteger();
+    CountDownLatch closed = new CountDownLatch(1);
+    AvailabilityHub.Subscription subscription = hub.subscribe(1L, new AvailabilityHub.Listener() {
+      @Override
+      public void onChange(AvailabilityChange change, long dropped) {
+      }
+
+      @Override
+      public void onHeartbeat() throws IOException {
+        throw new IOException("Broken pipe");
+      }
+
+      @Override
+      public void onClose() {
+        closes.incrementAndGet();
+        closed.countDown();
+      }
+    });
+
+    // When & Then
+    assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+    subscription.close();
+    assertThat(subscription.isClosed()).isTrue();
+    assertThat(hub.subscriberCount()).isZero();
+    assertThat(closes).hasValue(1);
+  }
+
+  @Test
+  void close_should_notify_listener() throws Exception {
+    // Given
+    CountDownLatch closed = new CountDownLatch(1);
+    AvailabilityHub.Subscription subscription = hub.subscribe(1L, new AvailabilityHub.Listener() {
+      @Override
+      public void onChange(AvailabilityChange change, long dropped) {
+      }
+
+      @Override
+      public void onClose() {
+        closed.countDown();
+      }
+    });
+
+    // When
+    subscription.close();
+
+    // Then
+    assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static AvailabilityChange change(Long restaurantId, Long tableId) {
+    return new AvailabilityChange(restaurantId, tableId, DATE, TimeSlotType.DINNER_19H21H, false);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
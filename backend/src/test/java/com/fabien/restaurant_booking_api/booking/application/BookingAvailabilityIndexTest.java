@@ -0,0 +1,175 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBooking;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomerWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTableWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestRestaurantWithId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookingAvailabilityIndexTest {
+
+  @Mock
+  private BookingRepository bookingRepository;
+
+  @Mock
+  private DiningTableRepository diningTableRepository;
+
+  private BookingAvailabilityIndex availabilityIndex;
+
+  private final Restaurant restaurant = createTestRestaurantWithId(1L);
+
+  @BeforeEach
+  void setUp() {
+    availabilityIndex = new BookingAvailabilityIndex(bookingRepository, diningTableRepository);
+    lenient().when(diningTableRepository.findById(any())).thenAnswer(invocation -> {
+      Long id = invocation.getArgument(0);
+      return Optional.of(createTestDiningTableWithId(id, restaurant, 4,
+          DiningTableStatus.AVAILABLE));
+    });
+  }
+
+  @Test
+  void covers_should_return_false_before_rebuild() {
+    assertThat(availabilityIndex.covers(LocalDate.now())).isFalse();
+  }
+
+  @Test
+  void covers_should_match_booking_window_after_rebuild() {
+    // Given
+    when(bookingRepository.findByDateBetweenAndStatusNot(any(), any(), any()))
+        .thenReturn(List.of());
+
+    // When
+    availabilityIndex.rebuild();
+
+    // Then
+    LocalDate today = LocalDate.now();
+    assertThat(availabilityIndex.covers(today)).isTrue();
+    assertThat(availabilityIndex.covers(today.plusDays(30))).isTrue();
+    assertThat(availabilityIndex.covers(today.minusDays(1))).isFalse();
+    assertThat(availabilityIndex.covers(today.plusDays(31))).isFalse();
+  }
+
+  @Test
+  void rebuild_should_load_existing_bookings() {
+    // Given
+    DiningTable table = createTestDiningTableWithId(7L, restaurant, 4, DiningTableStatus.AVAILABLE);
+    LocalDate date = LocalDate.now().plusDays(3);
+    Booking booking = createTestBooking(table, createTestCustomerWithId(1L), date,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
+    when(bookingRepository.findByDateBetweenAndStatusNot(any(), any(), any()))
+        .thenReturn(List.of(booking));
+
+    // When
+    availabilityIndex.rebuild();
+
+    // Then
+    assertThat(availabilityIndex.isFree(7L, date, TimeSlotType.DINNER_19H21H)).isFalse();
+    assertThat(availabilityIndex.isFree(7L, date, TimeSlotType.DINNER_21H23H)).isTrue();
+    assertThat(availabilityIndex.isFree(7L, date.plusDays(1), TimeSlotType.DINNER_19H21H))
+        .isTrue();
+  }
+
+  @Test
+  void markBooked_should_return_false_when_slot_already_taken() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(1);
+
+    // When
+    boolean first = availabilityIndex.markBooked(1L, date, TimeSlotType.LUNCH_12H14H);
+    boolean second = availabilityIndex.markBooked(1L, date, TimeSlotType.LUNCH_12H14H);
+
+    // Then
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(availabilityIndex.isFree(1L, date, TimeSlotType.LUNCH_12H14H)).isFalse();
+  }
+
+  @Test
+  void release_should_free_slot() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(1);
+    availabilityIndex.markBooked(1L, date, TimeSlotType.LUNCH_14H16H);
+
+    // When
+    boolean released = availabilityIndex.release(1L, date, TimeSlotType.LUNCH_14H16H);
+
+    // Then
+    assertThat(released).isTrue();
+    assertThat(availabilityIndex.isFree(1L, date, TimeSlotType.LUNCH_14H16H)).isTrue();
+  }
+
+  @Test
+  void markBooked_should_keep_existing_bits_when_restaurant_grows() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(2);
+    availabilityIndex.markBooked(1L, date, TimeSlotType.DINNER_21H23H);
+
+    // When
+    for (long tableId = 2L; tableId <= 40L; tableId++) {
+      availabilityIndex.markBooked(tableId, date, TimeSlotType.LUNCH_12H14H);
+    }
+
+    // Then
+    assertThat(availabilityIndex.isFree(1L, date, TimeSlotType.DINNER_21H23H)).isFalse();
+    assertThat(availabilityIndex.isFree(40L, date, TimeSlotType.LUNCH_12H14H)).isFalse();
+    assertThat(availabilityIndex.isFree(40L, date, TimeSlotType.DINNER_21H23H)).isTrue();
+  }
+
+  @Test
+  void markBooked_should_ignore_dates_outside_window() {
+    // Given
+    LocalDate tooFar = LocalDate.now().plusDays(45);
+
+    // When
+    boolean marked = availabilityIndex.markBooked(1L, tooFar, TimeSlotType.LUNCH_12H14H);
+
+    // Then
+    assertThat(marked).isFalse();
+    assertThat(availabilityIndex.isFree(1L, tooFar, TimeSlotType.LUNCH_12H14H)).isTrue();
+  }
+
+  @Test
+  void forget_should_move_table_and_its_bookings_to_new_restaurant() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(4);
+    availabilityIndex.markBooked(1L, date, TimeSlotType.DINNER_19H21H);
+    Restaurant otherRestaurant = createTestRestaurantWithId(2L);
+    when(diningTableRepository.findById(1L)).thenReturn(Optional.of(
+        createTestDiningTableWithId(1L, otherRestaurant, 4, DiningTableStatus.AVAILABLE)));
+    when(bookingRepository.findBookedSlots(Set.of(1L), LocalDate.now(),
+        LocalDate.now().plusDays(BookingService.BOOKING_WINDOW_DAYS)))
+        .thenReturn(List.of(new BookedSlot(1L, date, TimeSlotType.DINNER_19H21H)));
+
+    // When
+    availabilityIndex.forget(1L);
+
+    // Then
+    assertThat(availabilityIndex.restaurantIdOf(1L)).isEqualTo(2L);
+    assertThat(availabilityIndex.isFree(1L, date, TimeSlotType.DINNER_19H21H)).isFalse();
+    assertThat(availabilityIndex.isFree(1L, date, TimeSlotType.LUNCH_12H14H)).isTrue();
+  }
+}
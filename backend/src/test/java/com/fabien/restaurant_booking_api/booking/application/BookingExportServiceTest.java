@@ -0,0 +1,144 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingSummary;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceTest {
+
+  @Mock
+  private BookingRepository bookingRepository;
+
+  @Mock
+  private RestaurantService restaurantService;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  private BookingExportService exportService;
+
+  @BeforeEach
+  void setUp() {
+    exportService = new BookingExportService(bookingRepository, restaurantService, objectMapper);
+  }
+
+  @Test
+  void export_should_write_one_json_line_per_booking() throws Exception {
+    // Given
+    LocalDate from = LocalDate.of(2025, 9, 1);
+    LocalDate to = LocalDate.of(2025, 9, 30);
+    BookingSummary booking1 = createTestBookingSummary(1L, from, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.FINISH);
+    BookingSummary booking2 = createTestBookingSummary(2L, to, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+    when(bookingRepository.streamForExport(from, to, 1L))
+        .thenReturn(Stream.of(booking1, booking2));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    long count = exportService.export(from, to, 1L, out);
+
+    // Then
+    assertThat(count).isEqualTo(2);
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertThat(first.get("id").asLong()).isEqualTo(1L);
+    assertThat(first.get("date").asText()).isEqualTo("2025-09-01");
+    assertThat(first.at("/table/restaurant/name").asText()).isEqualTo("Test Restaurant");
+    assertThat(first.at("/customer/phoneNumber").asText()).isEqualTo("99-99-99-99-99");
+    assertThat(objectMapper.readTree(lines[1]).get("status").asText()).isEqualTo("IN_PROGRESS");
+  }
+
+  @Test
+  void export_should_start_every_line_with_object_and_end_with_newline() {
+    // Given
+    LocalDate date = LocalDate.of(2025, 9, 1);
+    when(bookingRepository.streamForExport(null, null, null)).thenReturn(Stream.of(
+        createTestBookingSummary(1L, date, TimeSlotType.LUNCH_12H14H, BookingStatus.FINISH),
+        createTestBookingSummary(2L, date, TimeSlotType.DINNER_19H21H, BookingStatus.FINISH),
+        createTestBookingSummary(3L, date, TimeSlotType.DINNER_19H21H, BookingStatus.CANCELED)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    exportService.export(null, null, null, out);
+
+    // Then : aucun séparateur parasite entre le retour à la ligne et l'objet suivant
+    byte[] bytes = out.toByteArray();
+    assertThat(bytes[0]).isEqualTo((byte) '{');
+    assertThat(bytes[bytes.length - 1]).isEqualTo((byte) '\n');
+    int lines = 0;
+    for (int i = 0; i < bytes.length - 1; i++) {
+      if (bytes[i] == '\n') {
+        lines++;
+        assertThat(bytes[i + 1]).as("premier octet de la ligne %d", lines + 1)
+            .isEqualTo((byte) '{');
+      }
+    }
+    assertThat(lines + 1).isEqualTo(3);
+  }
+
+  @Test
+  void export_should_write_nothing_when_no_bookings() {
+    // Given
+    when(bookingRepository.streamForExport(null, null, null)).thenReturn(Stream.empty());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    long count = exportService.export(null, null, null, out);
+
+    // Then
+    assertThat(count).isZero();
+    assertThat(out.size()).isZero();
+  }
+
+  @Test
+  void validateFilters_should_throw_exception_when_from_after_to() {
+    assertThatThrownBy(() -> exportService.validateFilters(LocalDate.of(2025, 9, 2),
+        LocalDate.of(2025, 9, 1), null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La date de début doit précéder la date de fin");
+
+    verifyNoInteractions(restaurantService);
+  }
+
+  @Test
+  void validateFilters_should_throw_exception_when_restaurant_not_exists() {
+    // Given
+    doThrow(new EntityNotFoundException("Restaurant not found with id : 99"))
+        .when(restaurantService).validateExists(99L);
+
+    // When & Then
+    assertThatThrownBy(() -> exportService.validateFilters(null, null, 99L))
+        .isInstanceOf(EntityNotFoundException.class);
+    verify(restaurantService).validateExists(99L);
+  }
+}
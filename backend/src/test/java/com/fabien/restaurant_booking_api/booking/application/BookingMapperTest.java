@@ -1,5 +1,6 @@
 package com.fabien.restaurant_booking_api.booking.application;
 
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingSummary;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingWithId;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomerWithId;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTableWithId;
@@ -8,7 +9,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
 import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
 import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.customer.application.CustomerMapper;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
@@ -38,18 +41,39 @@ class BookingMapperTest {
     // Then
     assertThat(response).isNotNull();
     assertThat(response.id()).isEqualTo(1L);
-    assertThat(response.table()).isEqualTo(diningTable);
-    assertThat(response.customer()).isEqualTo(customer);
+    assertThat(response.table()).isEqualTo(DiningTableMapper.toResponse(diningTable));
+    assertThat(response.customer()).isEqualTo(CustomerMapper.toResponse(customer));
     assertThat(response.date()).isEqualTo(LocalDate.of(2025, 7, 31));
     assertThat(response.timeSlotType()).isEqualTo(TimeSlotType.DINNER_19H21H);
     assertThat(response.status()).isEqualTo(BookingStatus.FINISH);
 
   }
 
+  @Test
+  void toResponse_should_map_summary_to_same_response_as_entity() {
+    // Given
+    Restaurant restaurant = createTestRestaurantWithId(1L, "Test Restaurant", "123 Test St",
+        "555-1234");
+    DiningTable diningTable = createTestDiningTableWithId(1L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    Customer customer = createTestCustomerWithId(1L, "Test Customer", "test@test.com",
+        "99-99-99-99-99");
+    Booking booking = createTestBookingWithId(7L, diningTable, customer, LocalDate.of(2025, 7, 31),
+        TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS);
+    BookingSummary summary = createTestBookingSummary(7L, LocalDate.of(2025, 7, 31),
+        TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS);
+
+    // When
+    BookingResponse response = BookingMapper.toResponse(summary);
+
+    // Then
+    assertThat(response).isEqualTo(BookingMapper.toResponse(booking));
+  }
+
   @Test
   void toResponse_should_return_null_when_dining_table_is_null() {
     // When
-    BookingResponse response = BookingMapper.toResponse(null);
+    BookingResponse response = BookingMapper.toResponse((Booking) null);
 
     // Then
     assertThat(response).isNull();
@@ -0,0 +1,67 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomerWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEvent;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEventRepository;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookingOutboxTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Captor
+  private ArgumentCaptor<OutboxEvent> eventCaptor;
+
+  private BookingOutbox bookingOutbox;
+
+  @BeforeEach
+  void setUp() {
+    bookingOutbox = new BookingOutbox(outboxEventRepository, objectMapper);
+  }
+
+  @Test
+  void append_should_save_event_describing_booking() throws Exception {
+    // Given
+    DiningTable table = createTestDiningTable();
+    table.setId(3L);
+    Booking booking = createTestBookingWithId(42L, table, createTestCustomerWithId(7L),
+        LocalDate.of(2025, 9, 12), TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
+
+    // When
+    bookingOutbox.append(BookingEventType.UPDATED, booking);
+
+    // Then
+    verify(outboxEventRepository).save(eventCaptor.capture());
+    OutboxEvent event = eventCaptor.getValue();
+    assertThat(event.getAggregateType()).isEqualTo("booking");
+    assertThat(event.getAggregateId()).isEqualTo(42L);
+    assertThat(event.getEventType()).isEqualTo("UPDATED");
+    assertThat(event.getCreatedAt()).isNotNull();
+    assertThat(objectMapper.readValue(event.getPayload(), BookingEvent.class))
+        .isEqualTo(new BookingEvent(42L, 3L, 7L, LocalDate.of(2025, 9, 12),
+            TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+  }
+}
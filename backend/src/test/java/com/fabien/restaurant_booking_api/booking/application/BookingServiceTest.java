@@ -1,6 +1,7 @@
 package com.fabien.restaurant_booking_api.booking.application;
 
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBooking;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingSummary;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingWithId;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomer;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomerWithId;
@@ -8,31 +9,55 @@ import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.cre
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
 import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
 import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.SlotOccupancy;
 import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.customer.application.CustomerService;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import com.fabien.restaurant_booking_api.table.application.DiningTableService;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceTest {
 
+  // Page par défaut, plus la ligne qui signale une page suivante
+  private static final Limit DEFAULT_PAGE = Limit.of(KeysetPagination.DEFAULT_LIMIT + 1);
+
+  private static final BookingSearchCriteria NO_FILTER = BookingSearchCriteria.none();
+
   @Mock
   private BookingRepository bookingRepository;
 
@@ -42,40 +67,129 @@ class BookingServiceTest {
   @Mock
   private DiningTableService diningTableService;
 
+  @Mock
+  private BookingAvailabilityIndex availabilityIndex;
+
+  @Mock
+  private ReservationHoldManager holdManager;
+
+  @Mock
+  private AvailabilityHub availabilityHub;
+
+  @Mock
+  private BookingOutbox bookingOutbox;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   private BookingService bookingService;
 
+  private SimpleMeterRegistry meterRegistry;
+
   @BeforeEach
   void setUp() {
-    bookingService = new BookingService(bookingRepository, customerService, diningTableService);
+    meterRegistry = new SimpleMeterRegistry();
+    bookingService = new BookingService(bookingRepository, customerService, diningTableService,
+        availabilityIndex, new SlotLockManager(16, 100, meterRegistry), holdManager,
+        new BookingMetrics(meterRegistry), availabilityHub, bookingOutbox,
+        new TransactionTemplate(transactionManager));
   }
 
   @Test
   void findAll_should_return_all_bookings() {
     // Given
-    DiningTable table = createTestDiningTable();
-    Customer customer1 = createTestCustomerWithId(1L);
-    Customer customer2 = createTestCustomerWithId(2L);
-
-    Booking booking1 = createTestBookingWithId(1L, table, customer1, LocalDate.of(2025, 8, 15),
+    BookingSummary booking1 = createTestBookingSummary(1L, LocalDate.of(2025, 8, 15),
         TimeSlotType.LUNCH_12H14H, BookingStatus.FINISH);
-    Booking booking2 = createTestBookingWithId(2L, table, customer2, LocalDate.of(2025, 8, 16),
+    BookingSummary booking2 = createTestBookingSummary(2L, LocalDate.of(2025, 8, 16),
         TimeSlotType.DINNER_19H21H, BookingStatus.CANCELED);
 
-    when(bookingRepository.findAll()).thenReturn(List.of(booking1, booking2));
+    when(bookingRepository.search(NO_FILTER, null, null, DEFAULT_PAGE))
+        .thenReturn(List.of(booking1, booking2));
 
     // When
-    List<Booking> results = bookingService.findAll();
+    List<BookingSummary> results = bookingService.findAll(NO_FILTER, null, null).items();
 
     // Then
     assertThat(results).hasSize(2)
-        .extracting(Booking::getId)
+        .extracting(BookingSummary::id)
         .containsExactly(1L, 2L);
 
     assertThat(results)
-        .extracting(Booking::getDate)
+        .extracting(BookingSummary::date)
         .containsExactly(LocalDate.of(2025, 8, 15), LocalDate.of(2025, 8, 16));
 
-    verify(bookingRepository).findAll();
+    verify(bookingRepository).search(NO_FILTER, null, null, DEFAULT_PAGE);
+  }
+
+  @Test
+  void findAll_should_return_next_cursor_when_more_rows_than_limit() {
+    // Given
+    LocalDate date = LocalDate.of(2025, 8, 15);
+    BookingSummary booking1 = createTestBookingSummary(1L, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.FINISH);
+    BookingSummary booking2 = createTestBookingSummary(2L, date, TimeSlotType.DINNER_19H21H,
+        BookingStatus.FINISH);
+    BookingSummary booking3 = createTestBookingSummary(3L, date.plusDays(1),
+        TimeSlotType.DINNER_19H21H, BookingStatus.FINISH);
+    when(bookingRepository.search(NO_FILTER, null, null, Limit.of(3)))
+        .thenReturn(List.of(booking1, booking2, booking3));
+    when(bookingRepository.search(NO_FILTER, date, 2L, Limit.of(3)))
+        .thenReturn(List.of(booking3));
+
+    // When
+    KeysetPage<BookingSummary> firstPage = bookingService.findAll(NO_FILTER, null, 2);
+    KeysetPage<BookingSummary> secondPage = bookingService.findAll(NO_FILTER,
+        firstPage.nextCursor(), 2);
+
+    // Then
+    assertThat(firstPage.items()).extracting(BookingSummary::id).containsExactly(1L, 2L);
+    assertThat(firstPage.hasNext()).isTrue();
+    assertThat(secondPage.items()).extracting(BookingSummary::id).containsExactly(3L);
+    assertThat(secondPage.hasNext()).isFalse();
+  }
+
+  @Test
+  void findAll_should_pass_filters_to_repository() {
+    // Given
+    LocalDate from = LocalDate.of(2025, 9, 1);
+    LocalDate to = LocalDate.of(2025, 9, 7);
+    BookingSearchCriteria criteria = new BookingSearchCriteria(12L, from, to,
+        BookingStatus.IN_PROGRESS, TimeSlotType.DINNER_19H21H);
+    BookingSummary booking = createTestBookingSummary(1L, from, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+    when(bookingRepository.search(criteria, null, null, Limit.of(11))).thenReturn(List.of(booking));
+
+    // When
+    KeysetPage<BookingSummary> page = bookingService.findAll(criteria, null, 10);
+
+    // Then
+    assertThat(page.items()).containsExactly(booking);
+    assertThat(page.hasNext()).isFalse();
+    verify(bookingRepository).search(criteria, null, null, Limit.of(11));
+  }
+
+  @Test
+  void searchCriteria_should_throw_exception_when_from_after_to() {
+    assertThatThrownBy(() -> new BookingSearchCriteria(null, LocalDate.of(2025, 9, 8),
+        LocalDate.of(2025, 9, 1), null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La date de début doit précéder la date de fin");
+  }
+
+  @Test
+  void findAll_should_throw_exception_when_limit_out_of_range() {
+    assertThatThrownBy(() -> bookingService.findAll(NO_FILTER, null, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La limite doit être comprise entre 1 et 500");
+    assertThatThrownBy(() -> bookingService.findAll(NO_FILTER, null, 501))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void findAll_should_throw_exception_when_cursor_is_invalid() {
+    assertThatThrownBy(() -> bookingService.findAll(NO_FILTER, "pas-un-curseur", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Le curseur de pagination est invalide");
   }
 
   @Test
@@ -125,28 +239,27 @@ class BookingServiceTest {
     LocalDate futureDate = LocalDate.now().plusDays(15);
     Booking inputBooking = createTestBooking(table, existingCustomer, futureDate,
         TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS);
-    Booking expectedBooking = createTestBooking(table, existingCustomer, futureDate,
-        TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS);
 
     when(customerService.findById(1L)).thenReturn(existingCustomer);
-    when(bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(1L, futureDate,
-        TimeSlotType.LUNCH_14H16H))
-        .thenReturn(false);
-    when(bookingRepository.save(any(Booking.class))).thenReturn(expectedBooking);
+    when(bookingRepository.insertIfSlotFree(inputBooking)).thenReturn(Optional.of(10L));
 
     // When
     Booking result = bookingService.create(inputBooking);
 
     // Then
     assertThat(result).isNotNull();
+    assertThat(result.getId()).isEqualTo(10L);
     assertThat(result.getCustomer()).isEqualTo(existingCustomer);
     assertThat(result.getDate()).isEqualTo(futureDate);
+    assertThat(outcomeCount(BookingOutcome.CREATED)).isEqualTo(1);
 
     verify(customerService).findById(1L);
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository).existsByDiningTableIdAndDateAndTimeSlotType(1L, futureDate,
-        TimeSlotType.LUNCH_14H16H);
-    verify(bookingRepository).save(any(Booking.class));
+    verify(bookingRepository).insertIfSlotFree(inputBooking);
+    verify(bookingOutbox).append(BookingEventType.CREATED, inputBooking);
+    verify(transactionManager).commit(any());
+    verify(diningTableService, never()).validateExists(any());
+    verify(bookingRepository, never()).existsActiveBooking(any(), any(), any());
+    verify(bookingRepository, never()).save(any());
   }
 
   @Test
@@ -161,26 +274,21 @@ class BookingServiceTest {
     LocalDate futureDate = LocalDate.now().plusDays(20);
     Booking inputBooking = createTestBooking(table, newCustomer, futureDate,
         TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
-    Booking expectedBooking = createTestBooking(table, createdCustomer, futureDate,
-        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
 
-    when(customerService.create(newCustomer)).thenReturn(createdCustomer);
-    when(bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(1L, futureDate,
-        TimeSlotType.DINNER_19H21H))
-        .thenReturn(false);
-    when(bookingRepository.save(any(Booking.class))).thenReturn(expectedBooking);
+    when(customerService.upsertByPhoneNumber(newCustomer)).thenReturn(createdCustomer);
+    when(bookingRepository.insertIfSlotFree(inputBooking)).thenReturn(Optional.of(11L));
 
     // When
     Booking result = bookingService.create(inputBooking);
 
     // Then
     assertThat(result).isNotNull();
+    assertThat(result.getId()).isEqualTo(11L);
     assertThat(result.getCustomer()).isEqualTo(createdCustomer);
 
-    verify(customerService).create(newCustomer);
+    verify(customerService).upsertByPhoneNumber(newCustomer);
     verify(customerService, never()).findById(any());
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository).save(any(Booking.class));
+    verify(bookingRepository).insertIfSlotFree(inputBooking);
   }
 
   @Test
@@ -194,18 +302,15 @@ class BookingServiceTest {
     Booking booking = createTestBooking(table, customer, pastDate, TimeSlotType.LUNCH_12H14H,
         BookingStatus.IN_PROGRESS);
 
-    when(customerService.findById(1L)).thenReturn(customer);
 
     // When & Then
     assertThatThrownBy(() -> bookingService.create(booking))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("La date de réservation ne peut pas être dans le passé");
 
-    verify(customerService).findById(1L);
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository, never()).existsByDiningTableIdAndDateAndTimeSlotType(any(), any(),
-        any());
-    verify(bookingRepository, never()).save(any());
+    assertThat(outcomeCount(BookingOutcome.DATE_OUT_OF_WINDOW)).isEqualTo(1);
+    verify(bookingRepository, never()).insertIfSlotFree(any());
+    verifyNoInteractions(customerService);
   }
 
   @Test
@@ -219,15 +324,14 @@ class BookingServiceTest {
     Booking booking = createTestBooking(table, customer, tooFarDate, TimeSlotType.DINNER_21H23H,
         BookingStatus.IN_PROGRESS);
 
-    when(customerService.findById(1L)).thenReturn(customer);
 
     // When & Then
     assertThatThrownBy(() -> bookingService.create(booking))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Les réservations ne sont possibles que 30 jours à l'avance maximum");
 
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository, never()).save(any());
+    verify(bookingRepository, never()).insertIfSlotFree(any());
+    verifyNoInteractions(customerService);
   }
 
   @Test
@@ -243,17 +347,116 @@ class BookingServiceTest {
         BookingStatus.IN_PROGRESS);
 
     when(customerService.findById(1L)).thenReturn(customer);
-    when(bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(1L, futureDate, timeSlot))
-        .thenReturn(true);
+    when(bookingRepository.insertIfSlotFree(booking)).thenReturn(Optional.empty());
 
     // When & Then
     assertThatThrownBy(() -> bookingService.create(booking))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Cette table est déjà réservée pour ce créneau");
 
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository).existsByDiningTableIdAndDateAndTimeSlotType(1L, futureDate, timeSlot);
-    verify(bookingRepository, never()).save(any());
+    assertThat(outcomeCount(BookingOutcome.SLOT_CONFLICT)).isEqualTo(1);
+    assertThat(outcomeCount(BookingOutcome.CREATED)).isZero();
+    verify(bookingRepository).insertIfSlotFree(booking);
+    verify(availabilityIndex, never()).markBooked(any(), any(), any());
+    verify(bookingOutbox, never()).append(any(), any());
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void create_should_leave_existing_customer_unchanged_when_booking_is_rejected() {
+    // Given : les coordonnées envoyées visent un client déjà connu par son téléphone
+    Customer returning = createTestCustomer("Nouveau Nom", "nouveau@test.com", "01-11-11-11-11");
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+    LocalDate futureDate = LocalDate.now().plusDays(10);
+    Booking held = createTestBooking(table, returning, futureDate, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    Booking taken = createTestBooking(table, returning, futureDate, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+
+    when(holdManager.isHeld(1L, futureDate, TimeSlotType.LUNCH_12H14H, null)).thenReturn(true);
+    when(customerService.upsertByPhoneNumber(returning))
+        .thenReturn(createTestCustomerWithId(2L, "Nouveau Nom", "nouveau@test.com",
+            "01-11-11-11-11"));
+    when(bookingRepository.insertIfSlotFree(taken)).thenReturn(Optional.empty());
+
+    // When & Then : refus avant l'écriture, puis refus à l'insertion
+    assertThatThrownBy(() -> bookingService.create(held))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> bookingService.create(taken))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    // Then : la mise à jour du client n'a eu lieu que dans la transaction annulée
+    InOrder inOrder = inOrder(transactionManager, customerService, bookingRepository);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(customerService).upsertByPhoneNumber(returning);
+    inOrder.verify(bookingRepository).insertIfSlotFree(taken);
+    inOrder.verify(transactionManager).rollback(any());
+    verify(transactionManager, never()).commit(any());
+  }
+
+  @Test
+  void create_should_throw_not_found_when_table_does_not_exist() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(99L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(10);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+
+    when(customerService.findById(1L)).thenReturn(customer);
+    when(bookingRepository.insertIfSlotFree(booking)).thenThrow(
+        new DataIntegrityViolationException("fk", new SQLException("fk", "23503")));
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.create(booking))
+        .isInstanceOf(EntityNotFoundException.class)
+        .hasMessage("Table not found with id : 99");
+
+    assertThat(outcomeCount(BookingOutcome.TABLE_NOT_FOUND)).isEqualTo(1);
+    verify(availabilityIndex, never()).markBooked(any(), any(), any());
+  }
+
+  @Test
+  void create_should_rethrow_other_integrity_violations() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(10);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    DataIntegrityViolationException violation = new DataIntegrityViolationException("check",
+        new SQLException("check", "23514"));
+
+    when(customerService.findById(1L)).thenReturn(customer);
+    when(bookingRepository.insertIfSlotFree(booking)).thenThrow(violation);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.create(booking)).isSameAs(violation);
+  }
+
+  @Test
+  void create_should_count_customer_conflict_when_upsert_violates_constraint() {
+    // Given
+    Customer newCustomer = createTestCustomer("New Customer", "new@test.com", "01-11-11-11-11");
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    Booking booking = createTestBooking(table, newCustomer, LocalDate.now().plusDays(5),
+        TimeSlotType.LUNCH_12H14H, BookingStatus.IN_PROGRESS);
+    DataIntegrityViolationException violation = new DataIntegrityViolationException("unique");
+
+    when(customerService.upsertByPhoneNumber(newCustomer)).thenThrow(violation);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.create(booking)).isSameAs(violation);
+
+    assertThat(outcomeCount(BookingOutcome.CUSTOMER_CONFLICT)).isEqualTo(1);
+    verify(bookingRepository, never()).insertIfSlotFree(any());
   }
 
   @Test
@@ -273,7 +476,8 @@ class BookingServiceTest {
 
     when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
     when(customerService.findById(1L)).thenReturn(existingCustomer);
-    when(bookingRepository.existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(1L, newDate,
+    when(diningTableService.findById(1L)).thenReturn(table);
+    when(bookingRepository.existsActiveBookingExcludingId(1L, newDate,
         TimeSlotType.DINNER_19H21H, 1L))
         .thenReturn(false);
     when(bookingRepository.save(any(Booking.class))).thenReturn(expectedBooking);
@@ -287,13 +491,347 @@ class BookingServiceTest {
     assertThat(result.getDate()).isEqualTo(newDate);
     assertThat(result.getTimeSlotType()).isEqualTo(TimeSlotType.DINNER_19H21H);
     assertThat(result.getStatus()).isEqualTo(BookingStatus.IN_PROGRESS);
+    assertThat(result.getDiningTable()).isSameAs(table);
+    assertThat(result.getCustomer()).isSameAs(existingCustomer);
 
     verify(bookingRepository).findById(1L);
     verify(customerService).findById(1L);
-    verify(diningTableService).validateExists(1L);
-    verify(bookingRepository).existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(1L, newDate,
+    verify(diningTableService).findById(1L);
+    verify(bookingRepository).existsActiveBookingExcludingId(1L, newDate,
         TimeSlotType.DINNER_19H21H, 1L);
     verify(bookingRepository).save(any(Booking.class));
+    verify(bookingOutbox).append(BookingEventType.UPDATED, expectedBooking);
+  }
+
+  @Test
+  void create_should_use_availability_index_when_date_is_covered() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(5);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+
+    when(customerService.findById(1L)).thenReturn(customer);
+    when(availabilityIndex.covers(futureDate)).thenReturn(true);
+    when(availabilityIndex.isFree(1L, futureDate, TimeSlotType.LUNCH_12H14H)).thenReturn(true);
+    when(bookingRepository.insertIfSlotFree(booking)).thenReturn(Optional.of(1L));
+
+    // When
+    bookingService.create(booking);
+
+    // Then
+    verify(bookingRepository, never()).existsActiveBooking(any(), any(),
+        any());
+    verify(availabilityIndex).markBooked(1L, futureDate, TimeSlotType.LUNCH_12H14H);
+  }
+
+  @Test
+  void create_should_throw_exception_when_availability_index_reports_slot_taken() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(5);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+
+    when(availabilityIndex.covers(futureDate)).thenReturn(true);
+    when(availabilityIndex.isFree(1L, futureDate, TimeSlotType.DINNER_19H21H)).thenReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.create(booking))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cette table est déjà réservée pour ce créneau");
+
+    verify(bookingRepository, never()).insertIfSlotFree(any());
+    verifyNoInteractions(customerService);
+    verify(availabilityIndex, never()).markBooked(any(), any(), any());
+  }
+
+  @Test
+  void create_should_throw_exception_when_slot_held_by_another_guest() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(4);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.LUNCH_14H16H,
+        BookingStatus.IN_PROGRESS);
+
+    when(holdManager.isHeld(1L, futureDate, TimeSlotType.LUNCH_14H16H, null)).thenReturn(true);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.create(booking))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cette table est temporairement retenue pour ce créneau");
+
+    verify(bookingRepository, never()).insertIfSlotFree(any());
+    verifyNoInteractions(customerService);
+  }
+
+  @Test
+  void create_should_convert_hold_into_booking() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate futureDate = LocalDate.now().plusDays(4);
+    Booking booking = createTestBooking(table, customer, futureDate, TimeSlotType.LUNCH_14H16H,
+        BookingStatus.IN_PROGRESS);
+
+    when(customerService.findById(1L)).thenReturn(customer);
+    when(holdManager.isHeld(1L, futureDate, TimeSlotType.LUNCH_14H16H, "token"))
+        .thenReturn(false);
+    when(bookingRepository.insertIfSlotFree(booking)).thenReturn(Optional.of(1L));
+
+    // When
+    bookingService.create(booking, "token");
+
+    // Then
+    verify(holdManager).validate("token", 1L, futureDate, TimeSlotType.LUNCH_14H16H);
+    verify(bookingRepository).insertIfSlotFree(booking);
+    verify(holdManager).release("token");
+  }
+
+  @Test
+  void placeHold_should_check_availability_before_holding_slot() {
+    // Given
+    LocalDate futureDate = LocalDate.now().plusDays(2);
+    when(bookingRepository.existsActiveBooking(1L, futureDate,
+        TimeSlotType.DINNER_19H21H)).thenReturn(true);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.placeHold(1L, futureDate, TimeSlotType.DINNER_19H21H))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cette table est déjà réservée pour ce créneau");
+
+    verify(diningTableService).validateExists(1L);
+    verify(holdManager, never()).place(any(), any(), any());
+    assertThat(outcomeCount(BookingOutcome.SLOT_CONFLICT)).isZero();
+  }
+
+  @Test
+  void placeHold_should_reject_date_out_of_window_without_recording_booking_outcome() {
+    // Given
+    LocalDate pastDate = LocalDate.now().minusDays(1);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingService.placeHold(1L, pastDate, TimeSlotType.LUNCH_12H14H))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La date de réservation ne peut pas être dans le passé");
+
+    assertThat(outcomeCount(BookingOutcome.DATE_OUT_OF_WINDOW)).isZero();
+    verify(holdManager, never()).place(any(), any(), any());
+  }
+
+  @Test
+  void update_should_release_slot_when_booking_canceled() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+
+    LocalDate date = LocalDate.now().plusDays(6);
+    Booking existingBooking = createTestBookingWithId(1L, table, customer, date,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
+    Booking cancelBooking = createTestBooking(table, customer, date, TimeSlotType.DINNER_19H21H,
+        BookingStatus.CANCELED);
+
+    when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
+    when(customerService.findById(1L)).thenReturn(customer);
+    when(diningTableService.findById(1L)).thenReturn(table);
+    when(bookingRepository.save(any(Booking.class))).thenReturn(cancelBooking);
+
+    // When
+    bookingService.update(1L, cancelBooking);
+
+    // Then
+    verify(bookingRepository, never()).existsActiveBookingExcludingId(any(), any(), any(), any());
+    verify(availabilityIndex).release(1L, date, TimeSlotType.DINNER_19H21H);
+    verify(availabilityIndex, never()).markBooked(any(), any(), any());
+  }
+
+  @Test
+  void createBatch_should_report_created_conflict_and_rejected_rows() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+    DiningTable unknownTable = createTestDiningTable();
+    unknownTable.setId(99L);
+
+    LocalDate date = LocalDate.now().plusDays(7);
+    Booking free = createTestBooking(table, customer, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    Booking alreadyBooked = createTestBooking(table, customer, date, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+    Booking duplicateInBatch = createTestBooking(table, customer, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    Booking missingTable = createTestBooking(unknownTable, customer, date,
+        TimeSlotType.LUNCH_12H14H, BookingStatus.IN_PROGRESS);
+
+    when(diningTableService.findExistingIds(Set.of(1L, 99L))).thenReturn(Set.of(1L));
+    when(customerService.findAllById(Set.of(1L))).thenReturn(List.of(customer));
+    when(customerService.findOrCreateByPhoneNumber(List.of())).thenReturn(Map.of());
+    when(bookingRepository.findBookedSlots(Set.of(1L), date, date))
+        .thenReturn(List.of(new BookedSlot(1L, date, TimeSlotType.DINNER_19H21H)));
+    stubInsertAll();
+
+    // When
+    List<BookingBatchOutcome> outcomes = bookingService.createBatch(
+        List.of(free, alreadyBooked, duplicateInBatch, missingTable));
+
+    // Then
+    assertThat(outcomes)
+        .extracting(BookingBatchOutcome::status)
+        .containsExactly(BookingBatchStatus.CREATED, BookingBatchStatus.CONFLICT,
+            BookingBatchStatus.CONFLICT, BookingBatchStatus.REJECTED);
+    assertThat(outcomes.get(3).error()).isEqualTo("Table not found with id : 99");
+    assertThat(outcomeCount(BookingOutcome.CREATED)).isEqualTo(1);
+    assertThat(outcomeCount(BookingOutcome.SLOT_CONFLICT)).isEqualTo(2);
+    assertThat(outcomeCount(BookingOutcome.TABLE_NOT_FOUND)).isEqualTo(1);
+    verify(bookingRepository).insertAllIfSlotFree(List.of(free));
+    verify(bookingOutbox).appendAll(BookingEventType.CREATED, List.of(free));
+    verify(availabilityIndex).markBooked(1L, date, TimeSlotType.LUNCH_12H14H);
+  }
+
+  @Test
+  void createBatch_should_report_conflict_for_row_taken_concurrently_and_create_others() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+    LocalDate date = LocalDate.now().plusDays(7);
+    Booking lunch = createTestBooking(table, customer, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    Booking takenMeanwhile = createTestBooking(table, customer, date,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
+    Booking lateDinner = createTestBooking(table, customer, date, TimeSlotType.DINNER_21H23H,
+        BookingStatus.IN_PROGRESS);
+
+    when(diningTableService.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+    when(customerService.findAllById(Set.of(1L))).thenReturn(List.of(customer));
+    when(customerService.findOrCreateByPhoneNumber(List.of())).thenReturn(Map.of());
+    when(bookingRepository.findBookedSlots(Set.of(1L), date, date)).thenReturn(List.of());
+    // Le créneau du dîner est pris entre la lecture des conflits et l'insertion
+    stubInsertAll(1);
+
+    // When
+    List<BookingBatchOutcome> outcomes = bookingService.createBatch(
+        List.of(lunch, takenMeanwhile, lateDinner));
+
+    // Then
+    assertThat(outcomes)
+        .extracting(BookingBatchOutcome::status)
+        .containsExactly(BookingBatchStatus.CREATED, BookingBatchStatus.CONFLICT,
+            BookingBatchStatus.CREATED);
+    assertThat(outcomes.get(1).error()).isEqualTo("Cette table est déjà réservée pour ce créneau");
+    assertThat(outcomes.get(0).booking().getId()).isEqualTo(100L);
+    assertThat(outcomes.get(2).booking().getId()).isEqualTo(102L);
+    assertThat(outcomeCount(BookingOutcome.CREATED)).isEqualTo(2);
+    assertThat(outcomeCount(BookingOutcome.SLOT_CONFLICT)).isEqualTo(1);
+    verify(bookingOutbox).appendAll(BookingEventType.CREATED, List.of(lunch, lateDinner));
+    verify(transactionManager).commit(any());
+    verify(availabilityIndex).markBooked(1L, date, TimeSlotType.LUNCH_12H14H);
+    verify(availabilityIndex).markBooked(1L, date, TimeSlotType.DINNER_21H23H);
+    verify(availabilityIndex, never()).markBooked(1L, date, TimeSlotType.DINNER_19H21H);
+  }
+
+  @Test
+  void createBatch_should_create_new_customers_inside_booking_transaction() {
+    // Given
+    Customer newcomer = createTestCustomer("New Customer", "new@test.com", "01-11-11-11-11");
+    Customer created = createTestCustomerWithId(2L, "New Customer", "new@test.com",
+        "01-11-11-11-11");
+    DiningTable table = createTestDiningTable();
+    table.setId(1L);
+    LocalDate date = LocalDate.now().plusDays(7);
+    Booking booking = createTestBooking(table, newcomer, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+
+    when(diningTableService.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+    when(customerService.findAllById(Set.of())).thenReturn(List.of());
+    when(customerService.findOrCreateByPhoneNumber(List.of(newcomer)))
+        .thenReturn(Map.of("01-11-11-11-11", created));
+    when(bookingRepository.findBookedSlots(Set.of(1L), date, date)).thenReturn(List.of());
+    stubInsertAll();
+
+    // When
+    List<BookingBatchOutcome> outcomes = bookingService.createBatch(List.of(booking));
+
+    // Then
+    assertThat(outcomes.getFirst().booking().getCustomer()).isSameAs(created);
+    InOrder inOrder = inOrder(transactionManager, customerService, bookingRepository);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(customerService).findOrCreateByPhoneNumber(List.of(newcomer));
+    inOrder.verify(bookingRepository).insertAllIfSlotFree(List.of(booking));
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void deleteById_should_release_slot_in_availability_index() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(3L);
+    LocalDate date = LocalDate.now().plusDays(2);
+    Booking booking = createTestBookingWithId(1L, table, customer, date,
+        TimeSlotType.DINNER_21H23H, BookingStatus.IN_PROGRESS);
+
+    when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+    // When
+    bookingService.deleteById(1L);
+
+    // Then
+    verify(availabilityIndex).release(3L, date, TimeSlotType.DINNER_21H23H);
+  }
+
+  @Test
+  void deleteById_should_publish_freed_slot_when_index_changes() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(3L);
+    LocalDate date = LocalDate.now().plusDays(2);
+    Booking booking = createTestBookingWithId(1L, table, customer, date,
+        TimeSlotType.DINNER_21H23H, BookingStatus.IN_PROGRESS);
+
+    when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+    when(availabilityIndex.release(3L, date, TimeSlotType.DINNER_21H23H)).thenReturn(true);
+    when(availabilityIndex.restaurantIdOf(3L)).thenReturn(7L);
+
+    // When
+    bookingService.deleteById(1L);
+
+    // Then
+    verify(availabilityHub).publish(
+        new AvailabilityChange(7L, 3L, date, TimeSlotType.DINNER_21H23H, true));
+  }
+
+  @Test
+  void deleteById_should_not_publish_when_slot_was_not_indexed_as_booked() {
+    // Given
+    Customer customer = createTestCustomerWithId(1L);
+    DiningTable table = createTestDiningTable();
+    table.setId(3L);
+    LocalDate date = LocalDate.now().plusDays(2);
+    Booking booking = createTestBookingWithId(1L, table, customer, date,
+        TimeSlotType.DINNER_21H23H, BookingStatus.IN_PROGRESS);
+
+    when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+
+    // When
+    bookingService.deleteById(1L);
+
+    // Then
+    verify(availabilityHub, never()).publish(any());
   }
 
   @Test
@@ -312,6 +850,7 @@ class BookingServiceTest {
     // Then
     verify(bookingRepository).findById(1L);
     verify(bookingRepository).deleteById(1L);
+    verify(bookingOutbox).append(BookingEventType.DELETED, booking);
   }
 
   @Test
@@ -327,5 +866,50 @@ class BookingServiceTest {
 
     verify(bookingRepository).findById(nonExistentId);
     verify(bookingRepository, never()).deleteById(any());
+    verify(bookingOutbox, never()).append(any(), any());
+  }
+
+  @Test
+  void getCalendar_should_return_free_and_total_tables_for_each_day_and_slot() {
+    // Given
+    LocalDate today = LocalDate.now();
+    LocalDate tomorrow = today.plusDays(1);
+
+    when(diningTableService.countAvailableByRestaurantId(1L)).thenReturn(5L);
+    when(bookingRepository.countBookedTablesByRestaurant(1L, today, today.plusDays(30)))
+        .thenReturn(List.of(new SlotOccupancy(tomorrow, TimeSlotType.DINNER_19H21H, 2L)));
+
+    // When
+    List<AvailabilityCalendarEntry> calendar = bookingService.getCalendar(1L);
+
+    // Then
+    assertThat(calendar).hasSize(31 * TimeSlotType.values().length);
+    assertThat(calendar.get(0))
+        .isEqualTo(new AvailabilityCalendarEntry(today, TimeSlotType.LUNCH_12H14H, 5, 5));
+    assertThat(calendar)
+        .contains(new AvailabilityCalendarEntry(tomorrow, TimeSlotType.DINNER_19H21H, 3, 5))
+        .contains(new AvailabilityCalendarEntry(tomorrow, TimeSlotType.DINNER_21H23H, 5, 5));
+  }
+
+  private double outcomeCount(BookingOutcome outcome) {
+    return meterRegistry.counter(BookingMetrics.OUTCOMES, "outcome", outcome.getTag()).count();
+  }
+
+  /**
+   * Insertion multiple simulée : identifiants attribués à partir de 100 dans l'ordre des lignes,
+   * les lignes de rang {@code conflictingRows} étant écartées comme par ON CONFLICT DO NOTHING.
+   */
+  private void stubInsertAll(Integer... conflictingRows) {
+    when(bookingRepository.insertAllIfSlotFree(anyList())).thenAnswer(invocation -> {
+      List<Booking> rows = invocation.getArgument(0);
+      Set<Long> inserted = new HashSet<>();
+      for (int i = 0; i < rows.size(); i++) {
+        rows.get(i).setId(100L + i);
+        if (!List.of(conflictingRows).contains(i)) {
+          inserted.add(100L + i);
+        }
+      }
+      return inserted;
+    });
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestBookingSummary;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTableWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestRestaurantWithId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookingSearchCriteria;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
+import com.fabien.restaurant_booking_api.booking.domain.ReactiveBookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.application.ReactiveDiningTableService;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveBookingServiceTest {
+
+  private static final BookingSearchCriteria NO_FILTER = BookingSearchCriteria.none();
+
+  @Mock
+  private ReactiveBookingRepository bookingRepository;
+
+  @Mock
+  private ReactiveDiningTableService diningTableService;
+
+  @Mock
+  private ReservationHoldManager holdManager;
+
+  private ReactiveBookingService bookingService;
+
+  @BeforeEach
+  void setUp() {
+    bookingService = new ReactiveBookingService(bookingRepository, diningTableService,
+        holdManager);
+  }
+
+  @Test
+  void findAll_should_return_next_cursor_when_more_rows_than_limit() {
+    // Given
+    LocalDate date = LocalDate.of(2025, 8, 15);
+    BookingSummary booking1 = createTestBookingSummary(1L, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.FINISH);
+    BookingSummary booking2 = createTestBookingSummary(2L, date, TimeSlotType.DINNER_19H21H,
+        BookingStatus.FINISH);
+    BookingSummary booking3 = createTestBookingSummary(3L, date.plusDays(1),
+        TimeSlotType.DINNER_19H21H, BookingStatus.FINISH);
+    when(bookingRepository.search(NO_FILTER, null, null, Limit.of(3)))
+        .thenReturn(Flux.just(booking1, booking2, booking3));
+    when(bookingRepository.search(NO_FILTER, date, 2L, Limit.of(3)))
+        .thenReturn(Flux.just(booking3));
+
+    // When
+    StepVerifier.create(bookingService.findAll(NO_FILTER, null, 2)
+            .flatMap(firstPage -> {
+              assertThat(firstPage.items()).extracting(BookingSummary::id)
+                  .containsExactly(1L, 2L);
+              return bookingService.findAll(NO_FILTER, firstPage.nextCursor(), 2);
+            }))
+        // Then
+        .assertNext(secondPage -> {
+          assertThat(secondPage.items()).extracting(BookingSummary::id).containsExactly(3L);
+          assertThat(secondPage.hasNext()).isFalse();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void findAll_should_emit_error_when_cursor_is_invalid() {
+    // When
+    StepVerifier.create(bookingService.findAll(NO_FILTER, "not-a-cursor", null))
+        // Then
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Le curseur de pagination est invalide"))
+        .verify();
+
+    verify(bookingRepository, never()).search(any(), any(), any(), any());
+  }
+
+  @Test
+  void findAll_should_emit_error_when_limit_is_out_of_range() {
+    // When
+    StepVerifier.create(bookingService.findAll(NO_FILTER, null, 501))
+        // Then
+        .expectError(IllegalArgumentException.class)
+        .verify();
+  }
+
+  @Test
+  void findById_should_emit_error_when_booking_does_not_exist() {
+    // Given
+    when(bookingRepository.findSummaryById(99L)).thenReturn(Mono.empty());
+
+    // When
+    StepVerifier.create(bookingService.findById(99L))
+        // Then
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Booking not found with id : 99"))
+        .verify();
+  }
+
+  @Test
+  void findFreeTables_should_exclude_held_tables() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(3);
+    Restaurant restaurant = createTestRestaurantWithId(1L);
+    DiningTable free = createTestDiningTableWithId(1L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    DiningTable held = createTestDiningTableWithId(2L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    when(diningTableService.findFreeTables(1L, date, TimeSlotType.DINNER_19H21H, 2))
+        .thenReturn(Flux.just(free, held));
+    when(holdManager.isHeld(1L, date, TimeSlotType.DINNER_19H21H, null)).thenReturn(false);
+    when(holdManager.isHeld(2L, date, TimeSlotType.DINNER_19H21H, null)).thenReturn(true);
+
+    // When
+    StepVerifier.create(bookingService.findFreeTables(1L, date, TimeSlotType.DINNER_19H21H, 2))
+        // Then
+        .expectNext(free)
+        .verifyComplete();
+  }
+}
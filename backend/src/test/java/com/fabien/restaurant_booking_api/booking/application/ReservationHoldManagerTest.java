@@ -0,0 +1,102 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class ReservationHoldManagerTest {
+
+  private final LocalDate date = LocalDate.of(2025, 9, 12);
+
+  @Test
+  void place_should_hold_slot_for_other_guests() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(300, 1000, 8);
+
+    // When
+    ReservationHold hold = holdManager.place(1L, date, TimeSlotType.LUNCH_12H14H);
+
+    // Then
+    assertThat(hold.token()).isNotBlank();
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.LUNCH_12H14H, null)).isTrue();
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.LUNCH_12H14H, hold.token())).isFalse();
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.LUNCH_14H16H, null)).isFalse();
+  }
+
+  @Test
+  void place_should_throw_exception_when_slot_already_held() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(300, 1000, 8);
+    holdManager.place(1L, date, TimeSlotType.DINNER_19H21H);
+
+    // When & Then
+    assertThatThrownBy(() -> holdManager.place(1L, date, TimeSlotType.DINNER_19H21H))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cette table est temporairement retenue pour ce créneau");
+  }
+
+  @Test
+  void tick_should_expire_hold_when_deadline_reached() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(2, 1000, 8);
+    holdManager.place(1L, date, TimeSlotType.DINNER_21H23H);
+
+    // When
+    holdManager.tick();
+
+    // Then
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.DINNER_21H23H, null)).isTrue();
+
+    // When
+    holdManager.tick();
+
+    // Then
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.DINNER_21H23H, null)).isFalse();
+    assertThat(holdManager.activeHolds()).isZero();
+  }
+
+  @Test
+  void tick_should_keep_hold_scheduled_in_later_wheel_round() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(10, 1000, 4);
+    holdManager.place(1L, date, TimeSlotType.LUNCH_14H16H);
+
+    // When
+    for (int i = 0; i < 6; i++) {
+      holdManager.tick();
+    }
+
+    // Then
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.LUNCH_14H16H, null)).isTrue();
+  }
+
+  @Test
+  void validate_should_throw_exception_when_token_does_not_match_slot() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(300, 1000, 8);
+    ReservationHold hold = holdManager.place(1L, date, TimeSlotType.LUNCH_12H14H);
+
+    // When & Then
+    assertThatThrownBy(() -> holdManager.validate(hold.token(), 2L, date,
+        TimeSlotType.LUNCH_12H14H))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La réservation temporaire est invalide ou expirée");
+  }
+
+  @Test
+  void release_should_free_slot() {
+    // Given
+    ReservationHoldManager holdManager = new ReservationHoldManager(300, 1000, 8);
+    ReservationHold hold = holdManager.place(1L, date, TimeSlotType.LUNCH_12H14H);
+
+    // When
+    holdManager.release(hold.token());
+
+    // Then
+    assertThat(holdManager.isHeld(1L, date, TimeSlotType.LUNCH_12H14H, null)).isFalse();
+    assertThat(holdManager.place(1L, date, TimeSlotType.LUNCH_12H14H)).isNotNull();
+  }
+}
@@ -0,0 +1,119 @@
+package com.fabien.restaurant_booking_api.booking.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SlotLockManagerTest {
+
+  private final LocalDate date = LocalDate.of(2025, 9, 12);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void constructor_should_round_stripe_count_to_power_of_two() {
+    assertThat(new SlotLockManager(64, 100, meterRegistry).getStripeCount()).isEqualTo(64);
+    assertThat(new SlotLockManager(50, 100, meterRegistry).getStripeCount()).isEqualTo(64);
+  }
+
+  @Test
+  void withSlotLock_should_return_action_result() {
+    // Given
+    SlotLockManager lockManager = new SlotLockManager(16, 100, meterRegistry);
+
+    // When
+    String result = lockManager.withSlotLock(1L, date, TimeSlotType.LUNCH_12H14H, () -> "ok");
+
+    // Then
+    assertThat(result).isEqualTo("ok");
+    assertThat(lockManager.getAcquisitions()).isEqualTo(1);
+    assertThat(lockManager.getContentions()).isZero();
+    assertThat(meterRegistry.get(SlotLockManager.WAIT).timer().count()).isZero();
+  }
+
+  @Test
+  void withSlotLock_should_throw_exception_and_count_timeout_when_slot_held_too_long()
+      throws Exception {
+    // Given
+    SlotLockManager lockManager = new SlotLockManager(16, 50, meterRegistry);
+    CountDownLatch held = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<?> holder = executor.submit(() -> lockManager.withSlotLock(1L, date,
+          TimeSlotType.DINNER_19H21H, () -> {
+            held.countDown();
+            awaitQuietly(release);
+            return null;
+          }));
+      held.await(1, TimeUnit.SECONDS);
+
+      // When & Then
+      assertThatThrownBy(() -> lockManager.withSlotLock(1L, date, TimeSlotType.DINNER_19H21H,
+          () -> "never"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Ce créneau est en cours de réservation, veuillez réessayer");
+
+      assertThat(lockManager.getContentions()).isEqualTo(1);
+      assertThat(lockManager.getTimeouts()).isEqualTo(1);
+      Timer waits = meterRegistry.get(SlotLockManager.WAIT).timer();
+      assertThat(waits.count()).isEqualTo(1);
+      assertThat(waits.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+
+      release.countDown();
+      holder.get(1, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void withSlotLocks_should_hold_every_slot_during_action_and_release_afterwards()
+      throws Exception {
+    // Given
+    SlotLockManager lockManager = new SlotLockManager(16, 50, meterRegistry);
+    List<BookedSlot> slots = List.of(
+        new BookedSlot(1L, date, TimeSlotType.LUNCH_12H14H),
+        new BookedSlot(2L, date, TimeSlotType.DINNER_19H21H),
+        new BookedSlot(1L, date, TimeSlotType.LUNCH_12H14H));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      // When
+      String result = lockManager.withSlotLocks(slots, () -> {
+        // Then : un autre thread ne peut prendre aucun des créneaux pendant l'action
+        Future<?> other = executor.submit(() -> lockManager.withSlotLock(2L, date,
+            TimeSlotType.DINNER_19H21H, () -> "never"));
+        assertThatThrownBy(() -> other.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        return "ok";
+      });
+
+      assertThat(result).isEqualTo("ok");
+      assertThat(executor.submit(() -> lockManager.withSlotLock(2L, date,
+          TimeSlotType.DINNER_19H21H, () -> "free")).get(1, TimeUnit.SECONDS)).isEqualTo("free");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
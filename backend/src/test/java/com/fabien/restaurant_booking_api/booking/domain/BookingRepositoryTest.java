@@ -12,13 +12,17 @@ import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -67,6 +71,24 @@ class BookingRepositoryTest {
     assertThat(found.get().getStatus()).isEqualTo(BookingStatus.FINISH);
   }
 
+  @Test
+  void findById_should_fetch_table_restaurant_and_customer() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    Booking saved = entityManager.persistAndFlush(createTestBooking(table, customer,
+        LocalDate.of(2025, 8, 21), TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS));
+    entityManager.clear();
+
+    // When
+    Booking found = bookingRepository.findById(saved.getId()).orElseThrow();
+
+    // Then
+    assertThat(Hibernate.isInitialized(found.getDiningTable())).isTrue();
+    assertThat(Hibernate.isInitialized(found.getDiningTable().getRestaurant())).isTrue();
+    assertThat(Hibernate.isInitialized(found.getCustomer())).isTrue();
+  }
+
   @Test
   void findById_should_return_empty_when_booking_not_exists() {
     // Given
@@ -126,7 +148,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotType_should_return_true_when_booking_exists() {
+  void existsActiveBooking_should_return_true_when_booking_exists() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table = createAndPersistDiningTable();
@@ -138,7 +160,7 @@ class BookingRepositoryTest {
     entityManager.persistAndFlush(existingBooking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
+    boolean exists = bookingRepository.existsActiveBooking(
         table.getId(), bookingDate, timeSlot);
 
     // Then
@@ -146,14 +168,14 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotType_should_return_false_when_no_booking() {
+  void existsActiveBooking_should_return_false_when_no_booking() {
     // Given
     DiningTable table = createAndPersistDiningTable();
     LocalDate bookingDate = LocalDate.of(2025, 9, 10);
     TimeSlotType timeSlot = TimeSlotType.LUNCH_12H14H;
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
+    boolean exists = bookingRepository.existsActiveBooking(
         table.getId(), bookingDate, timeSlot);
 
     // Then
@@ -161,7 +183,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotType_should_return_false_when_different_table() {
+  void existsActiveBooking_should_return_false_when_different_table() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table1 = createAndPersistDiningTable();
@@ -174,7 +196,7 @@ class BookingRepositoryTest {
     entityManager.persistAndFlush(booking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
+    boolean exists = bookingRepository.existsActiveBooking(
         table2.getId(), bookingDate, timeSlot);
 
     // Then
@@ -182,7 +204,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotType_should_return_false_when_different_date() {
+  void existsActiveBooking_should_return_false_when_different_date() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table = createAndPersistDiningTable();
@@ -195,7 +217,7 @@ class BookingRepositoryTest {
     entityManager.persistAndFlush(booking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
+    boolean exists = bookingRepository.existsActiveBooking(
         table.getId(), differentDate, timeSlot);
 
     // Then
@@ -203,7 +225,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotType_should_return_false_when_different_time_slot() {
+  void existsActiveBooking_should_return_false_when_different_time_slot() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table = createAndPersistDiningTable();
@@ -216,7 +238,7 @@ class BookingRepositoryTest {
     entityManager.persistAndFlush(booking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotType(
+    boolean exists = bookingRepository.existsActiveBooking(
         table.getId(), bookingDate, differentSlot);
 
     // Then
@@ -224,7 +246,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot_should_return_false_when_same_booking() {
+  void existsActiveBookingExcludingId_should_return_false_when_same_booking() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table = createAndPersistDiningTable();
@@ -236,7 +258,7 @@ class BookingRepositoryTest {
     Booking saved = entityManager.persistAndFlush(existingBooking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(
+    boolean exists = bookingRepository.existsActiveBookingExcludingId(
         table.getId(), bookingDate, timeSlot, saved.getId());
 
     // Then
@@ -244,7 +266,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot_should_return_true_when_other_booking_exists() {
+  void existsActiveBookingExcludingId_should_return_true_when_other_booking_exists() {
     // Given
     Customer customer1 = createAndPersistCustomer();
     Customer customer2 = createAndPersistCustomer("MarieTest", "test@test.com", "00-11-22-33-44");
@@ -261,7 +283,7 @@ class BookingRepositoryTest {
     Booking saved2 = entityManager.persistAndFlush(booking2);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(
+    boolean exists = bookingRepository.existsActiveBookingExcludingId(
         table.getId(), bookingDate, TimeSlotType.DINNER_21H23H, saved2.getId());
 
     // Then
@@ -269,7 +291,7 @@ class BookingRepositoryTest {
   }
 
   @Test
-  void existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot_should_return_false_when_no_other_booking() {
+  void existsActiveBookingExcludingId_should_return_false_when_no_other_booking() {
     // Given
     Customer customer = createAndPersistCustomer();
     DiningTable table = createAndPersistDiningTable();
@@ -281,13 +303,181 @@ class BookingRepositoryTest {
     Booking saved = entityManager.persistAndFlush(booking);
 
     // When
-    boolean exists = bookingRepository.existsByDiningTableIdAndDateAndTimeSlotTypeAndIdNot(
+    boolean exists = bookingRepository.existsActiveBookingExcludingId(
         table.getId(), bookingDate, timeSlot, saved.getId());
 
     // Then
     assertThat(exists).isFalse();
   }
 
+  @Test
+  void existsActiveBooking_should_return_false_when_booking_canceled() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.of(2025, 10, 15);
+    TimeSlotType timeSlot = TimeSlotType.DINNER_19H21H;
+
+    Booking canceled = createTestBooking(table, customer, bookingDate, timeSlot,
+        BookingStatus.CANCELED);
+    entityManager.persistAndFlush(canceled);
+
+    // When
+    boolean exists = bookingRepository.existsActiveBooking(table.getId(), bookingDate, timeSlot);
+
+    // Then
+    assertThat(exists).isFalse();
+  }
+
+  @Test
+  void save_should_allow_new_booking_on_slot_of_canceled_booking() {
+    // Given
+    Customer customer1 = createAndPersistCustomer();
+    Customer customer2 = createAndPersistCustomer("MarieTest", "test@test.com", "00-11-22-33-44");
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.of(2025, 10, 20);
+    TimeSlotType timeSlot = TimeSlotType.LUNCH_12H14H;
+
+    entityManager.persistAndFlush(createTestBooking(table, customer1, bookingDate, timeSlot,
+        BookingStatus.CANCELED));
+
+    // When
+    Booking saved = bookingRepository.saveAndFlush(createTestBooking(table, customer2,
+        bookingDate, timeSlot, BookingStatus.IN_PROGRESS));
+
+    // Then
+    assertThat(saved.getId()).isNotNull();
+  }
+
+  @Test
+  void insertIfSlotFree_should_return_id_when_slot_is_free() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    Booking booking = createTestBooking(table, customer, LocalDate.of(2025, 10, 21),
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS);
+
+    // When
+    Optional<Long> id = bookingRepository.insertIfSlotFree(booking);
+
+    // Then
+    assertThat(id).isPresent();
+    assertThat(bookingRepository.existsActiveBooking(table.getId(), LocalDate.of(2025, 10, 21),
+        TimeSlotType.DINNER_19H21H)).isTrue();
+  }
+
+  @Test
+  void insertIfSlotFree_should_return_empty_when_slot_is_taken() {
+    // Given
+    Customer customer1 = createAndPersistCustomer();
+    Customer customer2 = createAndPersistCustomer("MarieTest", "test@test.com", "00-11-22-33-44");
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.of(2025, 10, 22);
+    entityManager.persistAndFlush(createTestBooking(table, customer1, bookingDate,
+        TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS));
+
+    // When
+    Optional<Long> id = bookingRepository.insertIfSlotFree(createTestBooking(table, customer2,
+        bookingDate, TimeSlotType.LUNCH_14H16H, BookingStatus.IN_PROGRESS));
+
+    // Then
+    assertThat(id).isEmpty();
+  }
+
+  @Test
+  void insertIfSlotFree_should_throw_exception_when_table_does_not_exist() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable missingTable = new DiningTable();
+    missingTable.setId(999_999L);
+    Booking booking = createTestBooking(missingTable, customer, LocalDate.of(2025, 10, 23),
+        TimeSlotType.LUNCH_12H14H, BookingStatus.IN_PROGRESS);
+
+    // When & Then
+    assertThatThrownBy(() -> bookingRepository.insertIfSlotFree(booking))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  void insertAllIfSlotFree_should_skip_rows_whose_slot_is_taken_and_insert_others() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate date = LocalDate.of(2025, 8, 15);
+    entityManager.persistAndFlush(createTestBooking(table, customer, date,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+    Booking lunch = createTestBooking(table, customer, date, TimeSlotType.LUNCH_12H14H,
+        BookingStatus.IN_PROGRESS);
+    Booking taken = createTestBooking(table, customer, date, TimeSlotType.DINNER_19H21H,
+        BookingStatus.IN_PROGRESS);
+
+    // When
+    Set<Long> inserted = bookingRepository.insertAllIfSlotFree(List.of(lunch, taken));
+
+    // Then
+    assertThat(inserted).containsExactly(lunch.getId());
+    assertThat(taken.getId()).isNotNull().isNotEqualTo(lunch.getId());
+    assertThat(bookingRepository.findById(taken.getId())).isEmpty();
+  }
+
+  @Test
+  void search_should_filter_by_restaurant_and_period_and_resume_after_key() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    DiningTable otherRestaurantTable = createAndPersistDiningTable();
+    LocalDate monday = LocalDate.of(2025, 11, 3);
+
+    Booking first = entityManager.persistAndFlush(createTestBooking(table, customer, monday,
+        TimeSlotType.LUNCH_12H14H, BookingStatus.IN_PROGRESS));
+    Booking second = entityManager.persistAndFlush(createTestBooking(table, customer,
+        monday.plusDays(2), TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+    entityManager.persistAndFlush(createTestBooking(table, customer, monday.plusDays(10),
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+    entityManager.persistAndFlush(createTestBooking(otherRestaurantTable, customer, monday,
+        TimeSlotType.LUNCH_12H14H, BookingStatus.IN_PROGRESS));
+    BookingSearchCriteria criteria = new BookingSearchCriteria(
+        table.getRestaurant().getId(), monday, monday.plusDays(6), null, null);
+
+    // When
+    List<BookingSummary> week = bookingRepository.search(criteria, null, null, Limit.of(10));
+    List<BookingSummary> afterFirst = bookingRepository.search(criteria, first.getDate(),
+        first.getId(), Limit.of(10));
+
+    // Then
+    assertThat(week).extracting(BookingSummary::id)
+        .containsExactly(first.getId(), second.getId());
+    assertThat(week.get(0).restaurantId()).isEqualTo(table.getRestaurant().getId());
+    assertThat(week.get(0).customerPhoneNumber()).isEqualTo(customer.getPhoneNumber());
+    assertThat(afterFirst).extracting(BookingSummary::id).containsExactly(second.getId());
+  }
+
+  @Test
+  void search_should_filter_by_status_and_slot() {
+    // Given
+    Customer customer = createAndPersistCustomer();
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate date = LocalDate.of(2025, 11, 3);
+
+    Booking dinner = entityManager.persistAndFlush(createTestBooking(table, customer, date,
+        TimeSlotType.DINNER_19H21H, BookingStatus.FINISH));
+    entityManager.persistAndFlush(createTestBooking(table, customer, date,
+        TimeSlotType.LUNCH_12H14H, BookingStatus.FINISH));
+    entityManager.persistAndFlush(createTestBooking(table, customer, date.plusDays(1),
+        TimeSlotType.DINNER_19H21H, BookingStatus.CANCELED));
+    BookingSearchCriteria criteria = new BookingSearchCriteria(null, null, null,
+        BookingStatus.FINISH, TimeSlotType.DINNER_19H21H);
+
+    // When
+    List<BookingSummary> results = bookingRepository.search(criteria, null, null,
+        Limit.unlimited());
+
+    // Then
+    assertThat(results).extracting(BookingSummary::id).containsExactly(dinner.getId());
+    assertThat(results.get(0).status()).isEqualTo(BookingStatus.FINISH);
+    assertThat(results.get(0).timeSlotType()).isEqualTo(TimeSlotType.DINNER_19H21H);
+  }
+
   private Customer createAndPersistCustomer() {
     Customer customer = createTestCustomer();
     return entityManager.persistAndFlush(customer);
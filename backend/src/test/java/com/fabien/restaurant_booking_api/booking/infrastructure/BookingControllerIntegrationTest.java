@@ -6,6 +6,7 @@ import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.cre
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestRestaurant;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -23,6 +24,8 @@ import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.customer.domain.CustomerRepository;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.restaurant.domain.RestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEvent;
+import com.fabien.restaurant_booking_api.shared.outbox.OutboxEventRepository;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
@@ -61,8 +64,12 @@ class BookingControllerIntegrationTest {
   @Autowired
   private RestaurantRepository restaurantRepository;
 
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
   @AfterEach
   void tearDown() {
+    outboxEventRepository.deleteAll();
     bookingRepository.deleteAll();
     customerRepository.deleteAll();
     diningTableRepository.deleteAll();
@@ -294,6 +301,42 @@ class BookingControllerIntegrationTest {
         .andExpect(jsonPath("$.error", is("Cette table est déjà réservée pour ce créneau")));
   }
 
+  @Test
+  void create_should_leave_existing_customer_unchanged_when_slot_already_booked()
+      throws Exception {
+    // Given
+    Customer existing = createAndPersistCustomer("Ancien Nom", "ancien@test.com",
+        "01-33-33-33-33");
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.now().plusDays(9);
+    bookingRepository.save(createTestBooking(table, existing, bookingDate,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+
+    String requestJson = String.format("""
+        {
+          "diningTableId": %d,
+          "customerId": null,
+          "customerName": "Nouveau Nom",
+          "customerEmail": "nouveau@test.com",
+          "customerPhoneNumber": "01-33-33-33-33",
+          "timeSlotType": "DINNER_19H21H",
+          "date": "%s",
+          "status": "IN_PROGRESS"
+        }
+        """, table.getId(), bookingDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+
+    // When
+    mockMvc.perform(post("/api/bookings")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isBadRequest());
+
+    // Then
+    Customer reloaded = customerRepository.findById(existing.getId()).orElseThrow();
+    assertThat(reloaded.getName()).isEqualTo("Ancien Nom");
+    assertThat(reloaded.getEmail()).isEqualTo("ancien@test.com");
+  }
+
   @Test
   void create_should_return_404_when_dining_table_not_exists() throws Exception {
     // Given
@@ -373,6 +416,76 @@ class BookingControllerIntegrationTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  void create_then_delete_should_write_outbox_events_with_booking() throws Exception {
+    // Given
+    Customer customer = createAndPersistCustomer("Outbox", "outbox@test.com", "01-77-77-77-77");
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.now().plusDays(5);
+
+    String requestJson = String.format("""
+            {
+              "diningTableId": %d,
+              "customerId": %d,
+              "timeSlotType": "DINNER_19H21H",
+              "date": "%s",
+              "status": "IN_PROGRESS"
+            }
+            """, table.getId(), customer.getId(),
+        bookingDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+
+    mockMvc.perform(post("/api/bookings")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isCreated());
+    Long bookingId = bookingRepository.findAll().getFirst().getId();
+
+    // When
+    mockMvc.perform(delete("/api/bookings/{id}", bookingId))
+        .andExpect(status().isNoContent());
+
+    // Then
+    assertThat(outboxEventRepository.findAll())
+        .allSatisfy(event -> {
+          assertThat(event.getAggregateType()).isEqualTo("booking");
+          assertThat(event.getAggregateId()).isEqualTo(bookingId);
+          assertThat(event.getPayload()).contains("\"diningTableId\":" + table.getId());
+        })
+        .extracting(OutboxEvent::getEventType)
+        .containsExactlyInAnyOrder("CREATED", "DELETED");
+  }
+
+  @Test
+  void create_should_not_write_outbox_event_when_slot_already_booked() throws Exception {
+    // Given
+    Customer customer = createAndPersistCustomer("Conflict", "conflict@test.com",
+        "01-88-88-88-88");
+    DiningTable table = createAndPersistDiningTable();
+    LocalDate bookingDate = LocalDate.now().plusDays(5);
+    bookingRepository.save(createTestBooking(table, customer, bookingDate,
+        TimeSlotType.DINNER_19H21H, BookingStatus.IN_PROGRESS));
+
+    String requestJson = String.format("""
+            {
+              "diningTableId": %d,
+              "customerId": %d,
+              "timeSlotType": "DINNER_19H21H",
+              "date": "%s",
+              "status": "IN_PROGRESS"
+            }
+            """, table.getId(), customer.getId(),
+        bookingDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+
+    // When
+    mockMvc.perform(post("/api/bookings")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isBadRequest());
+
+    // Then
+    assertThat(outboxEventRepository.count()).isZero();
+  }
+
   // Helper methods
   private Customer createAndPersistCustomer(String name, String email, String phoneNumber) {
     Customer customer = createTestCustomer(name, email, phoneNumber);
@@ -5,32 +5,48 @@ import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.cre
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.customer.domain.CustomerRepository;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPage;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class CustomerServiceTest {
 
+  // Page par défaut, plus la ligne qui signale une page suivante
+  private static final Limit DEFAULT_PAGE = Limit.of(KeysetPagination.DEFAULT_LIMIT + 1);
+
   @Mock
   private CustomerRepository customerRepository;
 
+  @Mock
+  private CustomerSuggestionIndex suggestionIndex;
+
   private CustomerService customerService;
 
   @BeforeEach
   void setUp() {
-    customerService = new CustomerService(customerRepository);
+    customerService = new CustomerService(customerRepository, suggestionIndex);
   }
 
   @Test
@@ -38,9 +54,10 @@ class CustomerServiceTest {
     Customer c1 = createTestCustomerWithId(1L, "JeanTest", "jean@test.com", "00-02-03-04-05");
     Customer c2 = createTestCustomerWithId(2L, "MarieTest", "marie@test.com", "01-02-03-04-05");
 
-    when(customerRepository.findAll()).thenReturn(List.of(c1, c2));
+    when(customerRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE))
+        .thenReturn(List.of(c1, c2));
 
-    List<Customer> results = customerService.findAll();
+    List<Customer> results = customerService.findAll(null, null).items();
     assertThat(results).hasSize(2)
         .extracting(Customer::getId).containsExactly(1L, 2L);
 
@@ -53,18 +70,54 @@ class CustomerServiceTest {
     assertThat(results).extracting(Customer::getPhoneNumber)
         .containsExactly("00-02-03-04-05", "01-02-03-04-05");
 
-    verify(customerRepository).findAll();
+    verify(customerRepository).findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE);
+  }
+
+  @Test
+  void findAll_should_paginate_by_default_limit_when_only_cursor_is_given() {
+    // Given
+    Customer customer = createTestCustomerWithId(8L, "JeanTest", "jean@test.com",
+        "00-02-03-04-05");
+    String after = KeysetPagination.encodeCursor(7L);
+    when(customerRepository.findByIdGreaterThanOrderByIdAsc(7L, DEFAULT_PAGE))
+        .thenReturn(List.of(customer));
+
+    // When
+    KeysetPage<Customer> page = customerService.findAll(after, null);
+
+    // Then
+    assertThat(page.items()).containsExactly(customer);
+    assertThat(page.hasNext()).isFalse();
+  }
+
+  @Test
+  void findAll_should_cap_list_at_default_limit_when_no_pagination_param_is_given() {
+    // Given
+    List<Customer> rows = LongStream.rangeClosed(1, KeysetPagination.DEFAULT_LIMIT + 1)
+        .mapToObj(id -> createTestCustomerWithId(id, "JeanTest", "jean@test.com",
+            "00-02-03-04-05"))
+        .toList();
+    when(customerRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE)).thenReturn(rows);
+
+    // When
+    KeysetPage<Customer> page = customerService.findAll(null, null);
+
+    // Then
+    assertThat(page.items()).hasSize(KeysetPagination.DEFAULT_LIMIT);
+    assertThat(page.nextCursor())
+        .isEqualTo(KeysetPagination.encodeCursor((long) KeysetPagination.DEFAULT_LIMIT));
   }
 
   @Test
   void findAll_should_empty_list_when_no_customer() {
 
-    when(customerRepository.findAll()).thenReturn(List.of());
+    when(customerRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE))
+        .thenReturn(List.of());
 
-    List<Customer> results = customerService.findAll();
+    List<Customer> results = customerService.findAll(null, null).items();
 
     assertThat(results).isEmpty();
-    verify(customerRepository).findAll();
+    verify(customerRepository).findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE);
   }
 
   @Test
@@ -111,6 +164,7 @@ class CustomerServiceTest {
     assertThat(saved.getPhoneNumber()).isEqualTo(c1.getPhoneNumber());
 
     verify(customerRepository).save(any(Customer.class));
+    verify(suggestionIndex).put(c1);
   }
 
   @Test
@@ -126,6 +180,32 @@ class CustomerServiceTest {
     verify(customerRepository).save(any(Customer.class));
   }
 
+  @Test
+  void upsertByPhoneNumber_should_return_customer_stored_for_phone_number() {
+    Customer request = createTestCustomer("JeanTest", null, "00-02-03-04-05");
+    Customer stored = createTestCustomerWithId(4L, "JeanTest", "jean@test.com", "00-02-03-04-05");
+
+    when(customerRepository.upsertByPhoneNumber(request)).thenReturn(stored);
+
+    Customer result = customerService.upsertByPhoneNumber(request);
+
+    assertThat(result).isSameAs(stored);
+    verify(customerRepository).upsertByPhoneNumber(request);
+    verify(customerRepository, never()).save(any(Customer.class));
+    verify(suggestionIndex).put(stored);
+  }
+
+  @Test
+  void upsertByPhoneNumber_should_throw_when_phone_number_is_blank() {
+    Customer request = createTestCustomer("JeanTest", "jean@test.com", " ");
+
+    assertThatThrownBy(() -> customerService.upsertByPhoneNumber(request))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Le numéro de téléphone est obligatoire");
+
+    verify(customerRepository, never()).upsertByPhoneNumber(any());
+  }
+
   @Test
   void update_should_verify_existence_and_save_customer() {
     Customer c1 = createTestCustomerWithId(1L);
@@ -145,6 +225,7 @@ class CustomerServiceTest {
 
     verify(customerRepository).findById(1L);
     verify(customerRepository).save(any(Customer.class));
+    verify(suggestionIndex).put(expected);
   }
 
   @Test
@@ -157,6 +238,115 @@ class CustomerServiceTest {
 
     verify(customerRepository).findById(1L);
     verify(customerRepository).deleteById(1L);
+    verify(suggestionIndex).remove(1L);
+  }
+
+  @Test
+  void suggest_should_query_index_with_default_limit() {
+    Customer c1 = createTestCustomerWithId(1L, "JeanTest", "jean@test.com", "00-02-03-04-05");
 
+    when(suggestionIndex.suggest("jea", CustomerService.DEFAULT_SUGGESTION_LIMIT))
+        .thenReturn(List.of(c1));
+
+    List<Customer> results = customerService.suggest("jea", null);
+
+    assertThat(results).containsExactly(c1);
+    verifyNoInteractions(customerRepository);
+  }
+
+  @Test
+  void suggest_should_throw_when_query_is_blank() {
+    assertThatThrownBy(() -> customerService.suggest("  ", null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Le texte recherché est obligatoire");
+  }
+
+  @Test
+  void suggest_should_throw_when_limit_is_out_of_range() {
+    assertThatThrownBy(() -> customerService.suggest("jea", 51))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("La limite doit être comprise entre 1 et 50");
+
+    verify(suggestionIndex, never()).suggest(any(), anyInt());
+  }
+
+  @Test
+  void findOrCreateByPhoneNumber_should_upsert_each_distinct_phone_number_in_order() {
+    // Given
+    Customer newcomer = createTestCustomer("MarieTest", "marie@test.com", "01-02-03-04-05");
+    Customer returning = createTestCustomer("JeanNouveau", "jean@nouveau.com",
+        "00-02-03-04-05");
+    Customer updated = createTestCustomerWithId(1L, "JeanNouveau", "jean@nouveau.com",
+        "00-02-03-04-05");
+    Customer created = createTestCustomerWithId(2L, "MarieTest", "marie@test.com",
+        "01-02-03-04-05");
+    when(customerRepository.upsertAllByPhoneNumber(List.of(returning, newcomer)))
+        .thenReturn(List.of(updated, created));
+
+    // When
+    Map<String, Customer> results = customerService.findOrCreateByPhoneNumber(
+        List.of(newcomer, returning, newcomer));
+
+    // Then
+    assertThat(results)
+        .containsEntry("00-02-03-04-05", updated)
+        .containsEntry("01-02-03-04-05", created);
+    verify(suggestionIndex).put(updated);
+    verify(suggestionIndex).put(created);
+  }
+
+  @Test
+  void findOrCreateByPhoneNumber_should_not_query_when_batch_has_no_new_customer() {
+    // When
+    Map<String, Customer> results = customerService.findOrCreateByPhoneNumber(List.of());
+
+    // Then
+    assertThat(results).isEmpty();
+    verifyNoInteractions(customerRepository, suggestionIndex);
+  }
+
+  @Test
+  void findOrCreateByPhoneNumber_should_index_customers_only_after_commit() {
+    // Given
+    Customer newcomer = createTestCustomer("MarieTest", "marie@test.com", "01-02-03-04-05");
+    Customer created = createTestCustomerWithId(2L, "MarieTest", "marie@test.com",
+        "01-02-03-04-05");
+    when(customerRepository.upsertAllByPhoneNumber(List.of(newcomer)))
+        .thenReturn(List.of(created));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // When
+      customerService.findOrCreateByPhoneNumber(List.of(newcomer));
+      verify(suggestionIndex, never()).put(any());
+
+      // Then
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(suggestionIndex).put(created);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void upsertByPhoneNumber_should_index_customer_only_after_commit() {
+    // Given
+    Customer request = createTestCustomer("JeanTest", "jean@test.com", "00-02-03-04-05");
+    Customer stored = createTestCustomerWithId(1L, "JeanTest", "jean@test.com",
+        "00-02-03-04-05");
+    when(customerRepository.upsertByPhoneNumber(request)).thenReturn(stored);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      customerService.upsertByPhoneNumber(request);
+      verify(suggestionIndex, never()).put(any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(suggestionIndex).put(stored);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
   }
-}
\ No newline at end of file
+}
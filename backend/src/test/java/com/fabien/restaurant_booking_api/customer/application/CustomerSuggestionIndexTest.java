@@ -0,0 +1,130 @@
+package com.fabien.restaurant_booking_api.customer.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestCustomerWithId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.customer.domain.CustomerRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSuggestionIndexTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  private CustomerSuggestionIndex suggestionIndex;
+
+  @BeforeEach
+  void setUp() {
+    suggestionIndex = new CustomerSuggestionIndex(customerRepository);
+  }
+
+  @Test
+  void rebuild_should_index_existing_customers() {
+    // Given
+    when(customerRepository.findAll()).thenReturn(List.of(
+        createTestCustomerWithId(1L, "Jean Dupont", "jean@test.com", "06-12-34-56-78")));
+
+    // When
+    suggestionIndex.rebuild();
+
+    // Then
+    assertThat(suggestionIndex.suggest("jean", 10)).extracting(Customer::getId)
+        .containsExactly(1L);
+  }
+
+  @Test
+  void suggest_should_match_name_prefix_ignoring_case_and_accents() {
+    // Given
+    suggestionIndex.put(createTestCustomerWithId(1L, "Hélène Durand", "h@test.com",
+        "06-00-00-00-01"));
+    suggestionIndex.put(createTestCustomerWithId(2L, "Henri Martin", "m@test.com",
+        "06-00-00-00-02"));
+
+    // When & Then
+    assertThat(suggestionIndex.suggest("HEL", 10)).extracting(Customer::getId)
+        .containsExactly(1L);
+    assertThat(suggestionIndex.suggest("he", 10)).extracting(Customer::getId)
+        .containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  void suggest_should_match_surname_prefix() {
+    // Given
+    suggestionIndex.put(createTestCustomerWithId(1L, "Jean Dupont", "jean@test.com",
+        "06-12-34-56-78"));
+
+    // When
+    List<Customer> results = suggestionIndex.suggest("dup", 10);
+
+    // Then
+    assertThat(results).extracting(Customer::getId).containsExactly(1L);
+  }
+
+  @Test
+  void suggest_should_match_phone_prefix_ignoring_separators() {
+    // Given
+    suggestionIndex.put(createTestCustomerWithId(1L, "Jean Dupont", "jean@test.com",
+        "06-12-34-56-78"));
+    suggestionIndex.put(createTestCustomerWithId(2L, "Marie Curie", "marie@test.com",
+        "07-12-34-56-78"));
+
+    // When
+    List<Customer> results = suggestionIndex.suggest("06 12 3", 10);
+
+    // Then
+    assertThat(results).extracting(Customer::getId).containsExactly(1L);
+  }
+
+  @Test
+  void suggest_should_cap_results_at_limit() {
+    // Given
+    for (long id = 1; id <= 20; id++) {
+      suggestionIndex.put(createTestCustomerWithId(id, "Martin " + id, "m@test.com",
+          "06-00-00-00-" + id));
+    }
+
+    // When
+    List<Customer> results = suggestionIndex.suggest("martin", 5);
+
+    // Then
+    assertThat(results).hasSize(5);
+  }
+
+  @Test
+  void put_should_replace_previous_keys_when_customer_is_renamed() {
+    // Given
+    suggestionIndex.put(createTestCustomerWithId(1L, "Jean Dupont", "jean@test.com",
+        "06-12-34-56-78"));
+
+    // When
+    suggestionIndex.put(createTestCustomerWithId(1L, "Jean Durand", "jean@test.com",
+        "06-12-34-56-78"));
+
+    // Then
+    assertThat(suggestionIndex.suggest("dup", 10)).isEmpty();
+    assertThat(suggestionIndex.suggest("dur", 10)).extracting(Customer::getName)
+        .containsExactly("Jean Durand");
+  }
+
+  @Test
+  void remove_should_drop_customer_from_suggestions() {
+    // Given
+    suggestionIndex.put(createTestCustomerWithId(1L, "Jean Dupont", "jean@test.com",
+        "06-12-34-56-78"));
+
+    // When
+    suggestionIndex.remove(1L);
+
+    // Then
+    assertThat(suggestionIndex.suggest("jean", 10)).isEmpty();
+    assertThat(suggestionIndex.suggest("0612", 10)).isEmpty();
+  }
+}
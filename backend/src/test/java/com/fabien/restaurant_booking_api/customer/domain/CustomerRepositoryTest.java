@@ -2,7 +2,10 @@ package com.fabien.restaurant_booking_api.customer.domain;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -14,6 +17,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 class CustomerRepositoryTest {
 
+  // restaurant.id.allocation-size et hibernate.jdbc.batch_size
+  private static final int BLOCK_SIZE = 50;
+
   @Autowired
   private TestEntityManager entityManager;
 
@@ -61,6 +67,94 @@ class CustomerRepositoryTest {
     assertThat(found).isEmpty();
   }
 
+  @Test
+  void upsertByPhoneNumber_should_insert_customer_when_phone_number_is_new() {
+    // Given
+    Customer customer = createCustomer("Testeur", "test@test.com", "99-99-99-99-99");
+
+    // When
+    Customer saved = customerRepository.upsertByPhoneNumber(customer);
+
+    // Then
+    assertThat(saved.getId()).isNotNull();
+    assertThat(saved.getName()).isEqualTo("Testeur");
+    assertThat(saved.getPhoneNumber()).isEqualTo("99-99-99-99-99");
+  }
+
+  @Test
+  void upsertByPhoneNumber_should_return_existing_customer_when_phone_number_is_known() {
+    // Given
+    Customer existing = entityManager.persistAndFlush(
+        createCustomer("Testeur", "test@test.com", "99-99-99-99-99"));
+    entityManager.clear();
+
+    // When
+    Customer saved = customerRepository.upsertByPhoneNumber(
+        createCustomer("Testeur Dupont", null, "99-99-99-99-99"));
+
+    // Then
+    assertThat(saved.getId()).isEqualTo(existing.getId());
+    assertThat(saved.getName()).isEqualTo("Testeur Dupont");
+    assertThat(saved.getEmail()).isEqualTo("test@test.com");
+  }
+
+  @Test
+  void upsertAllByPhoneNumber_should_update_known_and_insert_new_customers() {
+    // Given
+    Customer existing = entityManager.persistAndFlush(
+        createCustomer("Testeur", "test@test.com", "99-99-99-99-99"));
+    entityManager.clear();
+
+    // When
+    List<Customer> saved = customerRepository.upsertAllByPhoneNumber(List.of(
+        createCustomer("Testeur Dupont", "dupont@test.com", "99-99-99-99-99"),
+        createCustomer("Nouveau", "nouveau@test.com", "98-98-98-98-98")));
+
+    // Then
+    assertThat(saved.size()).isEqualTo(2);
+    Customer updated = saved.stream()
+        .filter(customer -> customer.getId().equals(existing.getId()))
+        .findFirst()
+        .orElseThrow();
+    assertThat(updated.getName()).isEqualTo("Testeur Dupont");
+    assertThat(updated.getEmail()).isEqualTo("dupont@test.com");
+    assertThat(customerRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void persist_should_call_sequence_once_per_block_and_batch_inserts() {
+    // Given : séquence déjà entamée, last_value avance alors de 50 à chaque appel. Avec un
+    // multiple de 50 clients, le nombre d'appels ne dépend pas des identifiants restant en cache
+    int customers = 2 * BLOCK_SIZE;
+    entityManager.persistAndFlush(createCustomer("Amorce", "amorce@test.com", "00-00-00-00-00"));
+    long sequenceBefore = lastSequenceValue();
+    Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    // When
+    for (int i = 0; i < customers; i++) {
+      entityManager.persist(createCustomer("Client " + i, "client" + i + "@test.com",
+          String.format("02-00-00-%02d-%02d", i / 100, i % 100)));
+    }
+    entityManager.flush();
+    long preparedStatements = statistics.getPrepareStatementCount();
+
+    // Then
+    long sequenceCalls = (lastSequenceValue() - sequenceBefore) / BLOCK_SIZE;
+    assertThat(statistics.isStatisticsEnabled()).isTrue();
+    assertThat(sequenceCalls).isEqualTo(customers / BLOCK_SIZE);
+    // Le reste des instructions préparées : une par batch JDBC de 50 INSERT
+    assertThat(preparedStatements - sequenceCalls).isEqualTo(customers / BLOCK_SIZE);
+  }
+
+  private long lastSequenceValue() {
+    return ((Number) entityManager.getEntityManager()
+        .createNativeQuery("SELECT last_value FROM customers_seq")
+        .getSingleResult()).longValue();
+  }
+
   private Customer createCustomer(String name, String email, String phoneNumber) {
     Customer customer = new Customer();
     customer.setName(name);
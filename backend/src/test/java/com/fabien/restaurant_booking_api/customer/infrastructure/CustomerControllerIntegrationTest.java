@@ -248,4 +248,36 @@ class CustomerControllerIntegrationTest {
     mockMvc.perform(delete("/api/customers/{id}", nonExistentId))
         .andExpect(status().isNotFound());
   }
-}
\ No newline at end of file
+
+  @Test
+  void suggest_should_return_customers_matching_prefix_with_200() throws Exception {
+    // Given
+    String requestJson = """
+        {
+          "name": "Zoé Suggestion",
+          "email": "zoe@test.com",
+          "phoneNumber": "09-87-65-43-21"
+        }
+        """;
+    mockMvc.perform(post("/api/customers")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isCreated());
+
+    // When & Then
+    mockMvc.perform(get("/api/customers/suggest").param("q", "sugg"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].name", is("Zoé Suggestion")));
+    mockMvc.perform(get("/api/customers/suggest").param("q", "09 87"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].phoneNumber", is("09-87-65-43-21")));
+  }
+
+  @Test
+  void suggest_should_return_400_when_query_is_blank() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/api/customers/suggest").param("q", " "))
+        .andExpect(status().isBadRequest());
+  }
+}
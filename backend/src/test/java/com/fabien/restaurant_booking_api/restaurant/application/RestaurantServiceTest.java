@@ -12,6 +12,9 @@ import static org.mockito.Mockito.when;
 
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.restaurant.domain.RestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
@@ -20,18 +23,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class RestaurantServiceTest {
 
+  // Page par défaut, plus la ligne qui signale une page suivante
+  private static final Limit DEFAULT_PAGE = Limit.of(KeysetPagination.DEFAULT_LIMIT + 1);
+
   @Mock
   private RestaurantRepository restaurantRepository;
 
+  private ChangeCounters changeCounters;
+
   private RestaurantService restaurantService;
 
   @BeforeEach
   void setUp() {
-    restaurantService = new RestaurantService(restaurantRepository);
+    changeCounters = new ChangeCounters();
+    restaurantService = new RestaurantService(restaurantRepository, changeCounters);
   }
 
   @Test
@@ -42,10 +52,11 @@ class RestaurantServiceTest {
     Restaurant inputRestaurant2 = createTestRestaurantWithId(2L, "Testage et délice",
         "3 rue du test",
         "99-99-99-99-98");
-    when(restaurantRepository.findAll()).thenReturn(List.of(inputRestaurant1, inputRestaurant2));
+    when(restaurantRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE))
+        .thenReturn(List.of(inputRestaurant1, inputRestaurant2));
 
     //When
-    List<Restaurant> results = restaurantService.findAll();
+    List<Restaurant> results = restaurantService.findAll(null, null).items();
 
     //Then
     assertThat(results).hasSize(2)
@@ -64,7 +75,7 @@ class RestaurantServiceTest {
         .extracting(Restaurant::getPhoneNumber)
         .containsExactly("99-99-99-99-99", "99-99-99-99-98");
 
-    verify(restaurantRepository).findAll();
+    verify(restaurantRepository).findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE);
   }
 
   @Test
@@ -154,6 +165,25 @@ class RestaurantServiceTest {
         .hasMessage("Restaurant not found with id : " + nonExistentId);
     verify(restaurantRepository).findById(nonExistentId);
     verify(restaurantRepository, never()).save(any(Restaurant.class));
+    assertThat(changeCounters.current(ReferenceCollection.RESTAURANTS)).isZero();
+  }
+
+  @Test
+  void update_should_carry_loaded_version_and_bump_change_counter() {
+    //Given
+    Restaurant existing = createTestRestaurantWithId(1L);
+    existing.setVersion(3L);
+    Restaurant input = createTestRestaurant("Test a manger", "1 avenue test", "00-00-00-00-00");
+    when(restaurantRepository.findById(1L)).thenReturn(Optional.of(existing));
+    when(restaurantRepository.save(any(Restaurant.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    //When
+    Restaurant saved = restaurantService.update(1L, input);
+
+    //Then
+    assertThat(saved.getId()).isEqualTo(1L);
+    assertThat(saved.getVersion()).isEqualTo(3L);
+    assertThat(changeCounters.current(ReferenceCollection.RESTAURANTS)).isEqualTo(1);
   }
 
   @Test
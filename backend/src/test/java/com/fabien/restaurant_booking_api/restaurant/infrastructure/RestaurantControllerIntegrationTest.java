@@ -1,6 +1,8 @@
 package com.fabien.restaurant_booking_api.restaurant.infrastructure;
 
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTable;
 import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestRestaurant;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
@@ -10,10 +12,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
 import com.fabien.restaurant_booking_api.restaurant.domain.RestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -45,6 +50,9 @@ class RestaurantControllerIntegrationTest {
   @Autowired
   private RestaurantRepository restaurantRepository;
 
+  @Autowired
+  private DiningTableRepository diningTableRepository;
+
   @Test
   void findAll_should_return_all_restaurants_with_200() throws Exception {
     // Given
@@ -75,6 +83,56 @@ class RestaurantControllerIntegrationTest {
         .andExpect(jsonPath("$", hasSize(0)));
   }
 
+  @Test
+  void findAll_should_paginate_with_cursor() throws Exception {
+    // Given
+    restaurantRepository.save(createTestRestaurant("Chez Test", "15 rue Test", "01-11-11-11-11"));
+    restaurantRepository.save(createTestRestaurant("Le Testrot", "20 avenue Test",
+        "01-22-22-22-22"));
+    restaurantRepository.save(createTestRestaurant("Au Test", "3 place Test", "01-33-33-33-33"));
+
+    // When
+    String cursor = mockMvc.perform(get("/api/restaurants").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].name", is("Chez Test")))
+        .andExpect(header().string("Link", containsString("rel=\"next\"")))
+        .andReturn()
+        .getResponse()
+        .getHeader("X-Next-Cursor");
+
+    // Then
+    mockMvc.perform(get("/api/restaurants").param("limit", "2").param("after", cursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].name", is("Au Test")))
+        .andExpect(header().doesNotExist("Link"));
+  }
+
+  @Test
+  void findAll_should_return_default_page_when_no_pagination_param_is_given()
+      throws Exception {
+    // Given : plus de restaurants qu'une page par défaut
+    for (int i = 0; i <= KeysetPagination.DEFAULT_LIMIT; i++) {
+      restaurantRepository.save(createTestRestaurant("Restaurant " + i, i + " rue Test",
+          String.format("01-00-00-%02d-%02d", i / 100, i % 100)));
+    }
+
+    // When & Then
+    mockMvc.perform(get("/api/restaurants"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(KeysetPagination.DEFAULT_LIMIT)))
+        .andExpect(header().string("Link", containsString("rel=\"next\"")))
+        .andExpect(header().exists("X-Next-Cursor"));
+  }
+
+  @Test
+  void findAll_should_return_400_when_cursor_is_invalid() throws Exception {
+    mockMvc.perform(get("/api/restaurants").param("after", "???"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error", is("Le curseur de pagination est invalide")));
+  }
+
   @Test
   void findById_should_return_restaurant_with_200_when_exists() throws Exception {
     // Given
@@ -286,4 +344,91 @@ class RestaurantControllerIntegrationTest {
         .andExpect(status().isNotFound());
   }
 
-}
\ No newline at end of file
+  @Test
+  void findAll_should_return_304_until_a_restaurant_is_written() throws Exception {
+    // Given
+    Restaurant saved = restaurantRepository.save(createTestRestaurant());
+    String eTag = mockMvc.perform(get("/api/restaurants"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", matchesPattern("\".+\"")))
+        .andReturn().getResponse().getHeader("ETag");
+
+    // When & Then
+    mockMvc.perform(get("/api/restaurants").header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+
+    mockMvc.perform(put("/api/restaurants/{id}", saved.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "name": "Nouveau Nom",
+                  "address": "Nouvelle Adresse",
+                  "phoneNumber": "01-22-22-22-22"
+                }
+                """))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/api/restaurants").header("If-None-Match", eTag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].name", is("Nouveau Nom")));
+  }
+
+  @Test
+  void findById_should_return_304_when_version_is_unchanged() throws Exception {
+    // Given
+    Restaurant saved = restaurantRepository.save(createTestRestaurant());
+    String eTag = mockMvc.perform(get("/api/restaurants/{id}", saved.getId()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    // When & Then
+    mockMvc.perform(get("/api/restaurants/{id}", saved.getId()).header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void streamAvailability_should_open_event_stream() throws Exception {
+    // Given
+    Restaurant saved = restaurantRepository.save(createTestRestaurant());
+
+    // When & Then
+    mockMvc.perform(get("/api/restaurants/{id}/availability/stream", saved.getId()))
+        .andExpect(request().asyncStarted())
+        .andExpect(header().string("Content-Type", containsString("text/event-stream")));
+  }
+
+  @Test
+  void streamAvailability_should_return_404_when_restaurant_not_exists() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/api/restaurants/{id}/availability/stream", 999L))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getCalendar_should_return_grid_with_weak_etag_and_304_when_unchanged() throws Exception {
+    // Given
+    Restaurant saved = restaurantRepository.save(createTestRestaurant());
+    diningTableRepository.save(createTestDiningTable(saved));
+
+    // When & Then
+    String eTag = mockMvc.perform(get("/api/restaurants/{id}/calendar", saved.getId()))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", matchesPattern("W/\".+\"")))
+        .andExpect(jsonPath("$", hasSize(31 * 4)))
+        .andExpect(jsonPath("$[0].freeTables", is(1)))
+        .andExpect(jsonPath("$[0].totalTables", is(1)))
+        .andReturn().getResponse().getHeader("ETag");
+
+    mockMvc.perform(get("/api/restaurants/{id}/calendar", saved.getId())
+            .header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void getCalendar_should_return_404_when_restaurant_not_exists() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/api/restaurants/{id}/calendar", 999L))
+        .andExpect(status().isNotFound());
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.fabien.restaurant_booking_api.shared.etag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ChangeCountersTest {
+
+  private final ChangeCounters changeCounters = new ChangeCounters();
+
+  @Test
+  void eTag_should_be_strong_and_stable_without_writes() {
+    // When
+    String first = changeCounters.eTag(ReferenceCollection.RESTAURANTS);
+    String second = changeCounters.eTag(ReferenceCollection.RESTAURANTS);
+
+    // Then
+    assertThat(first).matches("\"[0-9a-z]+\\.0\"");
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  void eTag_should_change_when_any_covered_collection_changes() {
+    // Given
+    String before = changeCounters.eTag(ReferenceCollection.DINING_TABLES,
+        ReferenceCollection.RESTAURANTS);
+
+    // When
+    changeCounters.increment(ReferenceCollection.RESTAURANTS);
+
+    // Then
+    assertThat(changeCounters.eTag(ReferenceCollection.DINING_TABLES,
+        ReferenceCollection.RESTAURANTS)).isNotEqualTo(before);
+    assertThat(changeCounters.current(ReferenceCollection.DINING_TABLES)).isZero();
+  }
+
+  @Test
+  void eTag_should_differ_between_instances_started_at_different_times() throws Exception {
+    // Given
+    String before = changeCounters.eTag(ReferenceCollection.RESTAURANTS);
+    Thread.sleep(2);
+
+    // When
+    String afterRestart = new ChangeCounters().eTag(ReferenceCollection.RESTAURANTS);
+
+    // Then
+    assertThat(afterRestart).isNotEqualTo(before);
+  }
+}
@@ -0,0 +1,53 @@
+package com.fabien.restaurant_booking_api.shared.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class HandlerObservationConventionTest {
+
+  private final HandlerObservationConvention convention = new HandlerObservationConvention();
+
+  @Test
+  void getLowCardinalityKeyValues_should_tag_controller_method() throws NoSuchMethodException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/1");
+    HandlerMethod handler = new HandlerMethod(new SampleController(),
+        SampleController.class.getMethod("findById", Long.class));
+    request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+
+    // When
+    Iterable<KeyValue> keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockHttpServletResponse()));
+
+    // Then
+    assertThat(keyValues).contains(
+        KeyValue.of(HandlerObservationConvention.HANDLER, "SampleController.findById"));
+  }
+
+  @Test
+  void getLowCardinalityKeyValues_should_tag_none_when_no_handler_matched() {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/inconnu");
+
+    // When
+    Iterable<KeyValue> keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockHttpServletResponse()));
+
+    // Then
+    assertThat(keyValues).contains(KeyValue.of(HandlerObservationConvention.HANDLER, "none"));
+  }
+
+  static class SampleController {
+
+    public String findById(Long id) {
+      return "booking " + id;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileOutboxSinkTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void deliver_should_append_one_json_line_per_event() throws Exception {
+    // Given
+    Path file = directory.resolve("outbox/events.ndjson");
+    FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+
+    // When
+    sink.deliver(List.of(event(1L, "CREATED")));
+    sink.deliver(List.of(event(2L, "UPDATED"), event(3L, "DELETED")));
+
+    // Then
+    List<String> lines = Files.readAllLines(file);
+    assertThat(lines).hasSize(3);
+
+    JsonNode first = objectMapper.readTree(lines.getFirst());
+    assertThat(first.get("id").asLong()).isEqualTo(1L);
+    assertThat(first.get("aggregateType").asText()).isEqualTo("booking");
+    assertThat(first.get("eventType").asText()).isEqualTo("CREATED");
+    assertThat(first.get("payload").get("bookingId").asLong()).isEqualTo(1L);
+    assertThat(lines).extracting(line -> objectMapper.readTree(line).get("eventType").asText())
+        .containsExactly("CREATED", "UPDATED", "DELETED");
+  }
+
+  private static OutboxEvent event(Long id, String type) {
+    OutboxEvent event = OutboxEvent.of("booking", id, type, "{\"bookingId\":" + id + "}");
+    event.setId(id);
+    event.setCreatedAt(Instant.parse("2025-09-01T10:00:00Z"));
+    return event;
+  }
+}
@@ -0,0 +1,159 @@
+package com.fabien.restaurant_booking_api.shared.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private OutboxSink failingSink;
+
+  private final InMemoryOutboxSink sink = new InMemoryOutboxSink();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void poll_should_deliver_batch_then_delete_delivered_events() {
+    // Given
+    OutboxRelay relay = relay(sink, 10);
+    OutboxEvent event = event(1L, Instant.now().minusSeconds(2));
+    when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(event));
+    when(outboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+    // When
+    relay.poll();
+
+    // Then
+    assertThat(sink.getDelivered()).containsExactly(event);
+    verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+    verify(transactionManager).commit(any());
+    assertThat(meterRegistry.get("outbox.relay.delivered").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(OutboxRelay.LAG).timer().max(TimeUnit.SECONDS))
+        .isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void poll_should_chain_batches_while_they_are_full() {
+    // Given
+    OutboxRelay relay = relay(sink, 2);
+    Instant createdAt = Instant.now();
+    when(outboxEventRepository.lockNextBatch(2))
+        .thenReturn(List.of(event(1L, createdAt), event(2L, createdAt)))
+        .thenReturn(List.of(event(3L, createdAt)));
+    when(outboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+    // When
+    relay.poll();
+
+    // Then
+    assertThat(sink.getDelivered()).extracting(OutboxEvent::getId).containsExactly(1L, 2L, 3L);
+    verify(outboxEventRepository, times(2)).lockNextBatch(2);
+  }
+
+  @Test
+  void poll_should_keep_events_and_back_off_when_sink_fails() {
+    // Given
+    OutboxRelay relay = relay(failingSink, 10);
+    when(outboxEventRepository.lockNextBatch(10))
+        .thenReturn(List.of(event(1L, Instant.now())));
+    doThrow(new IllegalStateException("CRM indisponible")).when(failingSink).deliver(anyList());
+
+    // When
+    relay.poll();
+    relay.poll();
+
+    // Then
+    verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    verify(transactionManager).rollback(any());
+    // Le second appel tombe pendant la temporisation : pas de nouvelle tentative
+    verify(outboxEventRepository, times(1)).lockNextBatch(10);
+    assertThat(relay.getRetryAfter()).isAfter(Instant.now());
+    assertThat(meterRegistry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void backoffAfter_should_double_up_to_maximum() {
+    // Given
+    OutboxRelay relay = relay(sink, 10);
+
+    // Then
+    assertThat(relay.backoffAfter(1)).isEqualTo(Duration.ofMillis(500));
+    assertThat(relay.backoffAfter(2)).isEqualTo(Duration.ofMillis(1000));
+    assertThat(relay.backoffAfter(4)).isEqualTo(Duration.ofMillis(4000));
+    assertThat(relay.backoffAfter(50)).isEqualTo(Duration.ofMillis(5000));
+  }
+
+  @Test
+  void oldest_age_gauge_should_report_age_of_oldest_pending_event() {
+    // Given
+    OutboxRelay relay = relay(sink, 10);
+    when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of());
+    when(outboxEventRepository.findFirstByOrderByIdAsc())
+        .thenReturn(Optional.of(event(5L, Instant.now().minusSeconds(30))));
+
+    // When
+    relay.poll();
+
+    // Then
+    assertThat(meterRegistry.get(OutboxRelay.OLDEST_AGE).gauge().value())
+        .isGreaterThanOrEqualTo(30);
+  }
+
+  @Test
+  void oldest_age_gauge_should_be_zero_when_outbox_is_empty() {
+    // Given
+    OutboxRelay relay = relay(sink, 10);
+    when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of());
+    when(outboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+    // When
+    relay.poll();
+
+    // Then
+    assertThat(meterRegistry.get(OutboxRelay.OLDEST_AGE).gauge().value()).isZero();
+  }
+
+  private OutboxRelay relay(OutboxSink target, int batchSize) {
+    return new OutboxRelay(outboxEventRepository, target,
+        new TransactionTemplate(transactionManager), meterRegistry, batchSize, 500, 5000);
+  }
+
+  private static OutboxEvent event(Long id, Instant createdAt) {
+    OutboxEvent event = OutboxEvent.of("booking", id, "CREATED", "{\"bookingId\":" + id + "}");
+    event.setId(id);
+    event.setCreatedAt(createdAt);
+    return event;
+  }
+}
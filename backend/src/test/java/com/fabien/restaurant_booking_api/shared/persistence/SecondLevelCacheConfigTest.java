@@ -0,0 +1,85 @@
+package com.fabien.restaurant_booking_api.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SecondLevelCacheConfigTest {
+
+  private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+  private CacheManager cacheManager;
+
+  @AfterEach
+  void tearDown() {
+    if (cacheManager != null) {
+      cacheManager.close();
+    }
+  }
+
+  @Test
+  void hibernateCacheManager_should_create_bounded_entity_and_query_regions() {
+    // When
+    cacheManager = config.hibernateCacheManager(100);
+
+    // Then
+    assertThat(maximumSize(SecondLevelCacheConfig.RESTAURANT_REGION)).hasValue(100);
+    assertThat(maximumSize(SecondLevelCacheConfig.DINING_TABLE_REGION)).hasValue(100);
+    assertThat(maximumSize(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME))
+        .hasValue(100);
+  }
+
+  @Test
+  void hibernateCacheManager_should_not_bound_update_timestamps_region() {
+    // When
+    cacheManager = config.hibernateCacheManager(100);
+
+    // Then
+    assertThat(maximumSize(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME))
+        .isEmpty();
+  }
+
+  @Test
+  void hibernateCacheManager_should_isolate_each_context() {
+    // Given
+    cacheManager = config.hibernateCacheManager(100);
+
+    // When
+    try (CacheManager other = config.hibernateCacheManager(100)) {
+      Cache<Object, Object> cache = cacheManager.getCache(SecondLevelCacheConfig.RESTAURANT_REGION);
+      cache.put(1L, "Chez Test");
+
+      // Then
+      assertThat(other).isNotSameAs(cacheManager);
+      assertThat(other.getCache(SecondLevelCacheConfig.RESTAURANT_REGION).get(1L)).isNull();
+    }
+  }
+
+  @Test
+  void secondLevelCacheCustomizer_should_hand_cache_manager_to_hibernate() {
+    // Given
+    cacheManager = config.hibernateCacheManager(100);
+    Map<String, Object> properties = new HashMap<>();
+
+    // When
+    config.secondLevelCacheCustomizer(cacheManager).customize(properties);
+
+    // Then
+    assertThat(properties).containsEntry(ConfigSettings.CACHE_MANAGER, cacheManager);
+  }
+
+  @SuppressWarnings("unchecked")
+  private OptionalLong maximumSize(String region) {
+    Cache<Object, Object> cache = cacheManager.getCache(region);
+    return cache.getConfiguration(CaffeineConfiguration.class).getMaximumSize();
+  }
+}
@@ -0,0 +1,88 @@
+package com.fabien.restaurant_booking_api.shared.querystats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestQueryStatsTest {
+
+  private static final String SELECT_TABLE = "select * from dining_tables where id=?";
+  private static final String SELECT_RESTAURANT = "select * from restaurants where id=?";
+
+  private final QueryCountingInspector inspector = new QueryCountingInspector();
+
+  @AfterEach
+  void tearDown() {
+    RequestQueryStats.close();
+  }
+
+  @Test
+  void inspect_should_count_statements_of_open_request() {
+    // Given
+    RequestQueryStats stats = RequestQueryStats.open("DiningTableController.findAll", null,
+        false);
+
+    // When
+    inspector.inspect(SELECT_TABLE);
+    inspector.inspect(SELECT_RESTAURANT);
+    inspector.inspect(SELECT_RESTAURANT);
+
+    // Then
+    assertThat(stats.getStatements()).isEqualTo(3);
+    assertThat(stats.mostRepeated()).contains(Map.entry(SELECT_RESTAURANT, 2));
+  }
+
+  @Test
+  void inspect_should_return_sql_unchanged_outside_request() {
+    // When
+    String sql = inspector.inspect(SELECT_TABLE);
+
+    // Then
+    assertThat(sql).isEqualTo(SELECT_TABLE);
+    assertThat(RequestQueryStats.current()).isEmpty();
+  }
+
+  @Test
+  void inspect_should_only_flag_budget_overrun_when_not_strict() {
+    // Given
+    RequestQueryStats stats = RequestQueryStats.open("DiningTableController.findAll", 1, false);
+
+    // When
+    inspector.inspect(SELECT_TABLE);
+    inspector.inspect(SELECT_RESTAURANT);
+
+    // Then
+    assertThat(stats.isOverBudget()).isTrue();
+    assertThat(stats.getStatements()).isEqualTo(2);
+  }
+
+  @Test
+  void inspect_should_fail_on_statement_over_budget_when_strict() {
+    // Given
+    RequestQueryStats.open("DiningTableController.findAll", 1, true);
+    inspector.inspect(SELECT_TABLE);
+
+    // When & Then
+    assertThatThrownBy(() -> inspector.inspect(SELECT_RESTAURANT))
+        .isInstanceOf(QueryBudgetExceededException.class)
+        .hasMessageContaining("DiningTableController.findAll")
+        .hasMessageContaining(SELECT_RESTAURANT);
+  }
+
+  @Test
+  void toServerTiming_should_report_jdbc_time_and_statement_count() {
+    // Given
+    RequestQueryStats stats = RequestQueryStats.open("BookingController.findAll", 2, true);
+    inspector.inspect(SELECT_TABLE);
+    stats.recordJdbcTime(1_500_000);
+
+    // When
+    String header = stats.toServerTiming();
+
+    // Then
+    assertThat(header).isEqualTo("db;dur=1.50;desc=\"1 SQL\"");
+  }
+}
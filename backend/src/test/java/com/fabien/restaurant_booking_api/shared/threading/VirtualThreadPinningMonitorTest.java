@@ -0,0 +1,53 @@
+package com.fabien.restaurant_booking_api.shared.threading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(0);
+
+  @AfterEach
+  void tearDown() {
+    monitor.stop();
+  }
+
+  @Test
+  void start_should_record_virtual_thread_blocking_inside_synchronized_block() throws Exception {
+    // Given
+    monitor.start();
+
+    // When
+    Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+    // Then
+    await().atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat(monitor.getPinnedEvents()).isPositive());
+    assertThat(monitor.getPinnedSites().keySet())
+        .anyMatch(site -> site.startsWith(getClass().getName() + ".sleepWhileHoldingMonitor"));
+  }
+
+  @Test
+  void stop_should_release_recording() {
+    // Given
+    monitor.start();
+
+    // When
+    monitor.stop();
+
+    // Then
+    assertThat(monitor.isRunning()).isFalse();
+  }
+
+  private synchronized void sleepWhileHoldingMonitor() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.fabien.restaurant_booking_api.shared.utils;
 
 import com.fabien.restaurant_booking_api.booking.domain.Booking;
 import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.BookingSummary;
 import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
@@ -126,4 +127,12 @@ public class TestDataBuilder {
     return createTestBooking(table, customer, LocalDate.now(), TimeSlotType.LUNCH_12H14H,
         BookingStatus.FINISH);
   }
-}
\ No newline at end of file
+
+  public static BookingSummary createTestBookingSummary(Long id, LocalDate date,
+      TimeSlotType timeSlot, BookingStatus bookingStatus) {
+    return new BookingSummary(id, date, timeSlot, bookingStatus,
+        1L, 4, DiningTableStatus.AVAILABLE,
+        1L, "Test Restaurant", "123 Test St", "555-1234",
+        1L, "Test Customer", "test@test.com", "99-99-99-99-99");
+  }
+}
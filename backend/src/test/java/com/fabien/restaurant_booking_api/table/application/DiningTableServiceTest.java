@@ -12,12 +12,18 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fabien.restaurant_booking_api.booking.application.BookingAvailabilityIndex;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
 import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.shared.etag.ReferenceCollection;
+import com.fabien.restaurant_booking_api.shared.pagination.KeysetPagination;
 import com.fabien.restaurant_booking_api.table.domain.DiningTable;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
 import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,22 +31,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DiningTableServiceTest {
 
+  // Page par défaut, plus la ligne qui signale une page suivante
+  private static final Limit DEFAULT_PAGE = Limit.of(KeysetPagination.DEFAULT_LIMIT + 1);
+
   @Mock
   private DiningTableRepository diningTableRepository;
 
   @Mock
   private RestaurantService restaurantService;
 
+  @Mock
+  private BookingAvailabilityIndex availabilityIndex;
+
+  private ChangeCounters changeCounters;
+
   private DiningTableService diningTableService;
 
   @BeforeEach
   void setUp() {
-    diningTableService = new DiningTableService(diningTableRepository, restaurantService);
+    changeCounters = new ChangeCounters();
+    diningTableService = new DiningTableService(diningTableRepository, restaurantService,
+        changeCounters, availabilityIndex);
 
     ReflectionTestUtils.setField(diningTableService, "minCapacity", 2);
     ReflectionTestUtils.setField(diningTableService, "maxCapacity", 8);
@@ -56,9 +73,10 @@ class DiningTableServiceTest {
         DiningTableStatus.MAINTENANCE);
 
     // When
-    when(diningTableRepository.findAll()).thenReturn(List.of(table1, table2));
+    when(diningTableRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE))
+        .thenReturn(List.of(table1, table2));
 
-    List<DiningTable> results = diningTableService.findAll();
+    List<DiningTable> results = diningTableService.findAll(null, null).items();
     // Then
     assertThat(results)
         .hasSize(2)
@@ -73,21 +91,22 @@ class DiningTableServiceTest {
         .extracting(DiningTable::getStatus)
         .containsExactly(DiningTableStatus.AVAILABLE, DiningTableStatus.MAINTENANCE);
 
-    verify(diningTableRepository).findAll();
+    verify(diningTableRepository).findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE);
   }
 
   @Test
   void findAll_should_return_empty_list_when_no_dining_tables() {
     // Given
-    when(diningTableRepository.findAll()).thenReturn(List.of());
+    when(diningTableRepository.findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE))
+        .thenReturn(List.of());
 
     // When
-    List<DiningTable> results = diningTableService.findAll();
+    List<DiningTable> results = diningTableService.findAll(null, null).items();
 
     // Then
     assertThat(results).isEmpty();
 
-    verify(diningTableRepository).findAll();
+    verify(diningTableRepository).findByIdGreaterThanOrderByIdAsc(0L, DEFAULT_PAGE);
   }
 
   @Test
@@ -145,7 +164,7 @@ class DiningTableServiceTest {
 
     verify(restaurantService).validateExists(input.getRestaurant().getId());
     verify(diningTableRepository).save(any(DiningTable.class));
-
+    assertThat(changeCounters.current(ReferenceCollection.DINING_TABLES)).isEqualTo(1);
   }
 
   @Test
@@ -165,6 +184,7 @@ class DiningTableServiceTest {
 
     verify(restaurantService).validateExists(input.getRestaurant().getId());
     verify(diningTableRepository, never()).save(any(DiningTable.class));
+    assertThat(changeCounters.current(ReferenceCollection.DINING_TABLES)).isZero();
   }
 
   @Test
@@ -202,6 +222,7 @@ class DiningTableServiceTest {
 
     //When
     when(diningTableRepository.findById(1L)).thenReturn(Optional.of(diningTable));
+    when(restaurantService.findById(1L)).thenReturn(restaurant);
     when(diningTableRepository.save(any(DiningTable.class))).thenReturn(updateTable);
 
     //Then
@@ -209,12 +230,33 @@ class DiningTableServiceTest {
 
     assertThat(saved).isNotNull();
     assertThat(saved.getId()).isEqualTo(updateTable.getId());
-    assertThat(saved.getRestaurant()).isEqualTo(updateTable.getRestaurant());
+    assertThat(saved.getRestaurant()).isSameAs(restaurant);
     assertThat(saved.getCapacity()).isEqualTo(updateTable.getCapacity());
     assertThat(saved.getStatus()).isEqualTo(updateTable.getStatus());
 
-    verify(restaurantService).validateExists(1L);
+    verify(restaurantService).findById(1L);
     verify(diningTableRepository).save(any(DiningTable.class));
+    verify(availabilityIndex).forget(1L);
+  }
+
+  @Test
+  void update_should_carry_loaded_version() {
+    // Given
+    Restaurant restaurant = createTestRestaurantWithId(1L);
+    DiningTable existing = createTestDiningTableWithId(1L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    existing.setVersion(5L);
+    DiningTable input = createTestDiningTable(restaurant, 6, DiningTableStatus.AVAILABLE);
+    when(diningTableRepository.findById(1L)).thenReturn(Optional.of(existing));
+    when(restaurantService.findById(1L)).thenReturn(restaurant);
+    when(diningTableRepository.save(any(DiningTable.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    // When
+    DiningTable saved = diningTableService.update(1L, input);
+
+    // Then
+    assertThat(saved.getVersion()).isEqualTo(5L);
+    assertThat(changeCounters.current(ReferenceCollection.DINING_TABLES)).isEqualTo(1);
   }
 
   @Test
@@ -246,6 +288,7 @@ class DiningTableServiceTest {
 
     verify(diningTableRepository).findById(1L);
     verify(diningTableRepository).deleteById(1L);
+    verify(availabilityIndex).forget(1L);
   }
 
   @Test
@@ -264,4 +307,37 @@ class DiningTableServiceTest {
     verify(diningTableRepository, never()).deleteById(nonExistentId);
   }
 
-}
\ No newline at end of file
+  @Test
+  void findFreeTables_should_query_available_tables_for_slot() {
+    //Given
+    Restaurant restaurant = createTestRestaurantWithId(1L);
+    DiningTable table = createTestDiningTableWithId(2L, restaurant, 4, DiningTableStatus.AVAILABLE);
+    LocalDate date = LocalDate.now().plusDays(3);
+
+    //When
+    when(diningTableRepository.findFreeTables(1L, date, TimeSlotType.LUNCH_12H14H, 3,
+        DiningTableStatus.AVAILABLE)).thenReturn(List.of(table));
+
+    //Then
+    List<DiningTable> results = diningTableService.findFreeTables(1L, date,
+        TimeSlotType.LUNCH_12H14H, 3);
+
+    assertThat(results).containsExactly(table);
+    verify(restaurantService).validateExists(1L);
+  }
+
+  @Test
+  void findFreeTables_should_throw_exception_when_party_size_not_positive() {
+    //Given
+    LocalDate date = LocalDate.now().plusDays(3);
+
+    //Then
+    assertThatThrownBy(() -> diningTableService.findFreeTables(1L, date,
+        TimeSlotType.LUNCH_12H14H, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Le nombre de personnes doit être au moins 1");
+
+    verify(diningTableRepository, never()).findFreeTables(any(), any(), any(), any(), any());
+  }
+
+}
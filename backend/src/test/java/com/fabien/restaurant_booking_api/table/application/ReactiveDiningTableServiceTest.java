@@ -0,0 +1,129 @@
+package com.fabien.restaurant_booking_api.table.application;
+
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestDiningTableWithId;
+import static com.fabien.restaurant_booking_api.shared.utils.TestDataBuilder.createTestRestaurantWithId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.ReactiveRestaurantRepository;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import com.fabien.restaurant_booking_api.table.domain.ReactiveDiningTableRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDiningTableServiceTest {
+
+  @Mock
+  private ReactiveDiningTableRepository diningTableRepository;
+
+  @Mock
+  private ReactiveRestaurantRepository restaurantRepository;
+
+  private ReactiveDiningTableService diningTableService;
+
+  @BeforeEach
+  void setUp() {
+    diningTableService = new ReactiveDiningTableService(diningTableRepository,
+        restaurantRepository);
+  }
+
+  @Test
+  void findAll_should_return_next_cursor_when_more_rows_than_limit() {
+    // Given
+    Restaurant restaurant = createTestRestaurantWithId(1L);
+    DiningTable table1 = createTestDiningTableWithId(1L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    DiningTable table2 = createTestDiningTableWithId(2L, restaurant, 8,
+        DiningTableStatus.AVAILABLE);
+    when(diningTableRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+        .thenReturn(Flux.just(table1, table2));
+
+    // When
+    StepVerifier.create(diningTableService.findAll(null, 1))
+        // Then
+        .assertNext(page -> {
+          assertThat(page.items()).containsExactly(table1);
+          assertThat(page.hasNext()).isTrue();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void findById_should_emit_error_when_table_does_not_exist() {
+    // Given
+    when(diningTableRepository.findById(99L)).thenReturn(Mono.empty());
+
+    // When
+    StepVerifier.create(diningTableService.findById(99L))
+        // Then
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Dining table not found with id : 99"))
+        .verify();
+  }
+
+  @Test
+  void findByRestaurantId_should_emit_error_when_restaurant_does_not_exist() {
+    // Given
+    when(restaurantRepository.existsById(99L)).thenReturn(Mono.just(false));
+
+    // When
+    StepVerifier.create(diningTableService.findByRestaurantId(99L))
+        // Then
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(EntityNotFoundException.class)
+            .hasMessage("Restaurant not found with id : 99"))
+        .verify();
+
+    verify(diningTableRepository, never()).findByRestaurantId(99L);
+  }
+
+  @Test
+  void findFreeTables_should_emit_error_when_party_size_is_less_than_one() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(3);
+    when(restaurantRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+    // When
+    StepVerifier.create(diningTableService.findFreeTables(1L, date, TimeSlotType.LUNCH_12H14H, 0))
+        // Then
+        .expectErrorSatisfies(error -> assertThat(error)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Le nombre de personnes doit être au moins 1"))
+        .verify();
+  }
+
+  @Test
+  void findFreeTables_should_return_tables_from_repository() {
+    // Given
+    LocalDate date = LocalDate.now().plusDays(3);
+    Restaurant restaurant = createTestRestaurantWithId(1L);
+    DiningTable table = createTestDiningTableWithId(1L, restaurant, 4,
+        DiningTableStatus.AVAILABLE);
+    when(restaurantRepository.existsById(1L)).thenReturn(Mono.just(true));
+    when(diningTableRepository.findFreeTables(1L, date, TimeSlotType.LUNCH_12H14H, 2,
+        DiningTableStatus.AVAILABLE)).thenReturn(Flux.just(table));
+
+    // When
+    StepVerifier.create(diningTableService.findFreeTables(1L, date, TimeSlotType.LUNCH_12H14H, 2))
+        // Then
+        .expectNext(table)
+        .verifyComplete();
+    verify(restaurantRepository).existsById(1L);
+  }
+}
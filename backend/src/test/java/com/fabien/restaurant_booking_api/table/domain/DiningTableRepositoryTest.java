@@ -1,9 +1,18 @@
 package com.fabien.restaurant_booking_api.table.domain;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
 import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -94,6 +103,96 @@ class DiningTableRepositoryTest {
     assertThat(found.get().getRestaurant().getName()).isEqualTo("Test Restaurant");
   }
 
+  @Test
+  void findByRestaurantId_should_fetch_restaurant_in_same_query() {
+    // Given
+    Restaurant restaurant = createAndPersistRestaurant();
+    entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 2, DiningTableStatus.AVAILABLE));
+    entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 4, DiningTableStatus.AVAILABLE));
+    entityManager.clear();
+
+    // When
+    List<DiningTable> found = diningTableRepository.findByRestaurantId(restaurant.getId());
+
+    // Then
+    assertThat(found).hasSize(2)
+        .allSatisfy(table -> assertThat(Hibernate.isInitialized(table.getRestaurant())).isTrue());
+  }
+
+  @Test
+  void findFreeTables_should_exclude_booked_undersized_and_maintenance_tables() {
+    // Given
+    Restaurant restaurant = createAndPersistRestaurant();
+    DiningTable free = entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 4, DiningTableStatus.AVAILABLE));
+    DiningTable booked = entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 4, DiningTableStatus.AVAILABLE));
+    entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 2, DiningTableStatus.AVAILABLE));
+    entityManager.persistAndFlush(
+        createTestDiningTable(restaurant, 6, DiningTableStatus.MAINTENANCE));
+
+    LocalDate date = LocalDate.of(2025, 9, 12);
+    Customer customer = new Customer();
+    customer.setName("Test Customer");
+    customer.setPhoneNumber("99-99-99-99-99");
+    entityManager.persistAndFlush(customer);
+
+    Booking booking = new Booking();
+    booking.setDiningTable(booked);
+    booking.setCustomer(customer);
+    booking.setDate(date);
+    booking.setTimeSlotType(TimeSlotType.DINNER_19H21H);
+    booking.setStatus(BookingStatus.IN_PROGRESS);
+    entityManager.persistAndFlush(booking);
+
+    // When
+    List<DiningTable> found = diningTableRepository.findFreeTables(restaurant.getId(), date,
+        TimeSlotType.DINNER_19H21H, 3, DiningTableStatus.AVAILABLE);
+
+    // Then
+    assertThat(found).extracting(DiningTable::getId).containsExactly(free.getId());
+  }
+
+  @Test
+  void persist_should_group_interleaved_inserts_by_entity_into_jdbc_batches() {
+    // Given : séquences déjà entamées (voir CustomerRepositoryTest)
+    int pairs = 50;
+    createAndPersistDiningTable();
+    long sequencesBefore = lastValue("restaurants_seq") + lastValue("dining_tables_seq");
+    Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    // When : restaurant, table, restaurant, table...
+    for (int i = 0; i < pairs; i++) {
+      Restaurant restaurant = entityManager.persist(createTestRestaurant());
+      entityManager.persist(createTestDiningTable(restaurant, 4, DiningTableStatus.AVAILABLE));
+    }
+    entityManager.flush();
+    long preparedStatements = statistics.getPrepareStatementCount();
+
+    // Then : order_inserts regroupe les INSERT par table, soit un batch de 50 pour chacune
+    long sequenceCalls =
+        (lastValue("restaurants_seq") + lastValue("dining_tables_seq") - sequencesBefore) / 50;
+    assertThat(sequenceCalls).isEqualTo(2);
+    assertThat(preparedStatements - sequenceCalls).isEqualTo(2);
+  }
+
+  private long lastValue(String sequence) {
+    return ((Number) entityManager.getEntityManager()
+        .createNativeQuery("SELECT last_value FROM " + sequence)
+        .getSingleResult()).longValue();
+  }
+
+  private DiningTable createAndPersistDiningTable() {
+    return entityManager.persistAndFlush(createTestDiningTable(createAndPersistRestaurant(), 4,
+        DiningTableStatus.AVAILABLE));
+  }
+
   private Restaurant createTestRestaurant() {
     Restaurant restaurant = new Restaurant();
     restaurant.setName("Test Restaurant");
@@ -78,6 +78,57 @@ class DiningTableControllerIntegrationTest {
         .andExpect(jsonPath("$[1].status", is("MAINTENANCE")));
   }
 
+  @Test
+  void findByRestaurantId_should_report_sql_statements_in_server_timing_header()
+      throws Exception {
+    // Given
+    Restaurant savedRestaurant = restaurantRepository.save(
+        createTestRestaurant("Chez Test", "15 rue Test", "01-11-11-11-11"));
+    for (int i = 0; i < 5; i++) {
+      diningTableRepository.save(
+          createTestDiningTable(savedRestaurant, 4, DiningTableStatus.AVAILABLE));
+    }
+
+    // When & Then : le budget strict (3 instructions) échouerait en 500 sur un N+1
+    mockMvc.perform(get("/api/tables/restaurant/" + savedRestaurant.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(5)))
+        .andExpect(header().string("Server-Timing",
+            matchesPattern("db;dur=\\d+\\.\\d{2};desc=\"[0-3] SQL\"")));
+  }
+
+  @Test
+  void findByRestaurantId_should_return_304_until_a_table_is_written() throws Exception {
+    // Given
+    Restaurant savedRestaurant = restaurantRepository.save(
+        createTestRestaurant("Chez Test", "15 rue Test", "01-11-11-11-11"));
+    diningTableRepository.save(
+        createTestDiningTable(savedRestaurant, 4, DiningTableStatus.AVAILABLE));
+    String url = "/api/tables/restaurant/" + savedRestaurant.getId();
+    String eTag = mockMvc.perform(get(url))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    // When & Then
+    mockMvc.perform(get(url).header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+
+    mockMvc.perform(post("/api/tables")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "restaurantId": %d,
+                  "capacity": 6,
+                  "status": "AVAILABLE"
+                }
+                """.formatted(savedRestaurant.getId())))
+        .andExpect(status().isCreated());
+
+    mockMvc.perform(get(url).header("If-None-Match", eTag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)));
+  }
+
   @Test
   void findAll_should_return_empty_list_when_no_tables() throws Exception {
     // When & Then
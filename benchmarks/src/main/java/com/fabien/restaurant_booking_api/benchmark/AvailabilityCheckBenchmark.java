@@ -0,0 +1,194 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import com.fabien.restaurant_booking_api.booking.application.AvailabilityHub;
+import com.fabien.restaurant_booking_api.booking.application.BookingAvailabilityIndex;
+import com.fabien.restaurant_booking_api.booking.application.BookingMetrics;
+import com.fabien.restaurant_booking_api.booking.application.BookingService;
+import com.fabien.restaurant_booking_api.booking.application.ReservationHold;
+import com.fabien.restaurant_booking_api.booking.application.ReservationHoldManager;
+import com.fabien.restaurant_booking_api.booking.application.SlotLockManager;
+import com.fabien.restaurant_booking_api.booking.domain.BookedSlot;
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingRepository;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.application.RestaurantService;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.restaurant.domain.RestaurantRepository;
+import com.fabien.restaurant_booking_api.shared.etag.ChangeCounters;
+import com.fabien.restaurant_booking_api.table.application.DiningTableService;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableRepository;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Contrôles de disponibilité sur des repositories en mémoire, sans la base.
+ * <p>
+ * Les benchmarks {@code indexed*} et {@code repository*} comparent le seul contrôle d'un créneau :
+ * lecture de {@link BookingAvailabilityIndex}, comme {@code validateNotIndexedAsBooked}, contre la
+ * requête {@code existsActiveBooking} du repository. Le repository étant un proxy en mémoire, sa
+ * mesure est un plancher : en production s'y ajoute l'aller-retour SQL.
+ * <p>
+ * Les benchmarks {@code hold*} mesurent à part la pose d'une retenue de bout en bout (verrou de
+ * créneau, jeton aléatoire, roue d'expiration) ; un créneau occupé y est rejeté par une
+ * IllegalArgumentException, comme dans l'API, et son coût fait partie de la mesure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class AvailabilityCheckBenchmark {
+
+  private static final int TABLES = 50;
+  // Fenêtre de réservation : aujourd'hui à J+30
+  private static final int DAYS = 31;
+
+  private BookingAvailabilityIndex index;
+  private BookingRepository bookingRepository;
+  private BookingService bookingService;
+  private DiningTableService diningTableService;
+
+  private DiningTable newTable;
+  private Booking bookedSlot;
+  private Booking freeSlot;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    Restaurant restaurant = BenchmarkFixtures.restaurant(1);
+    List<DiningTable> tables = BenchmarkFixtures.tables(restaurant, TABLES);
+    List<Booking> bookings = BenchmarkFixtures.bookings(tables, DAYS);
+
+    Map<Long, DiningTable> tablesById = new HashMap<>();
+    tables.forEach(table -> tablesById.put(table.getId(), table));
+    Set<BookedSlot> bookedSlots = new HashSet<>();
+    bookings.forEach(booking -> bookedSlots.add(new BookedSlot(booking.getDiningTable().getId(),
+        booking.getDate(), booking.getTimeSlotType())));
+
+    RestaurantRepository restaurantRepository = InMemoryRepositories.stub(
+        RestaurantRepository.class, Map.of(
+            "findById", args -> Optional.of(restaurant).filter(r -> r.getId().equals(args[0]))));
+    DiningTableRepository diningTableRepository = InMemoryRepositories.stub(
+        DiningTableRepository.class, Map.of(
+            "findById", args -> Optional.ofNullable(tablesById.get((Long) args[0])),
+            "save", args -> args[0]));
+    bookingRepository = InMemoryRepositories.stub(
+        BookingRepository.class, Map.of(
+            "findByDateBetweenAndStatusNot", args -> bookings,
+            "existsActiveBooking", args -> bookedSlots.contains(
+                new BookedSlot((Long) args[0], (LocalDate) args[1], (TimeSlotType) args[2]))));
+
+    index = new BookingAvailabilityIndex(bookingRepository, diningTableRepository);
+    index.rebuild();
+
+    ChangeCounters changeCounters = new ChangeCounters();
+    diningTableService = new DiningTableService(diningTableRepository,
+        new RestaurantService(restaurantRepository, changeCounters), changeCounters, index);
+    setField(diningTableService, "minCapacity", 2);
+    setField(diningTableService, "maxCapacity", 8);
+
+    // Ni CustomerService ni l'outbox et sa transaction n'interviennent dans la pose d'une retenue
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    bookingService = new BookingService(bookingRepository, null, diningTableService, index,
+        new SlotLockManager(64, 2000, meterRegistry), new ReservationHoldManager(300, 1000, 512),
+        new BookingMetrics(meterRegistry), new AvailabilityHub(32, 15_000), null, null);
+
+    bookedSlot = bookings.get(bookings.size() / 2);
+    DiningTable table = bookedSlot.getDiningTable();
+    TimeSlotType otherSlot = TimeSlotType.values()[
+        (bookedSlot.getTimeSlotType().ordinal() + 1) % TimeSlotType.values().length];
+    freeSlot = BenchmarkFixtures.booking(0, table, null, bookedSlot.getDate(), otherSlot);
+
+    newTable = new DiningTable();
+    newTable.setRestaurant(restaurant);
+    newTable.setCapacity(4);
+    newTable.setStatus(DiningTableStatus.AVAILABLE);
+  }
+
+  @Benchmark
+  public boolean indexedBookedSlot() {
+    return isIndexedAsBooked(bookedSlot);
+  }
+
+  @Benchmark
+  public boolean indexedFreeSlot() {
+    return isIndexedAsBooked(freeSlot);
+  }
+
+  @Benchmark
+  public boolean repositoryBookedSlot() {
+    return existsActiveBooking(bookedSlot);
+  }
+
+  @Benchmark
+  public boolean repositoryFreeSlot() {
+    return existsActiveBooking(freeSlot);
+  }
+
+  @Benchmark
+  public Object holdBookedSlot() {
+    return placeHold(bookedSlot);
+  }
+
+  @Benchmark
+  public Object holdFreeSlot() {
+    return placeHold(freeSlot);
+  }
+
+  @Benchmark
+  public DiningTable diningTableCapacityCheck() {
+    return diningTableService.create(newTable);
+  }
+
+  // Même test que BookingService.validateNotIndexedAsBooked, sans l'exception
+  private boolean isIndexedAsBooked(Booking slot) {
+    return index.covers(slot.getDate()) && !index.isFree(slot.getDiningTable().getId(),
+        slot.getDate(), slot.getTimeSlotType());
+  }
+
+  private boolean existsActiveBooking(Booking slot) {
+    return bookingRepository.existsActiveBooking(slot.getDiningTable().getId(), slot.getDate(),
+        slot.getTimeSlotType());
+  }
+
+  /**
+   * Pose puis libère une retenue : le créneau libre le reste d'une invocation à l'autre.
+   */
+  private Object placeHold(Booking slot) {
+    try {
+      ReservationHold hold = bookingService.placeHold(slot.getDiningTable().getId(),
+          slot.getDate(), slot.getTimeSlotType());
+      bookingService.releaseHold(hold.token());
+      return hold;
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  private static void setField(Object target, String name, Object value)
+      throws ReflectiveOperationException {
+    Field field = target.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+}
@@ -0,0 +1,118 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compare un résultat JMH ({@code -rf json}) à la référence enregistrée et échoue si un benchmark
+ * régresse de plus de {@code seuil} %.
+ * <p>
+ * Un benchmark est identifié par son nom et ses paramètres, et comparé sur la médiane de ses
+ * itérations (tous forks confondus) plutôt que sur la moyenne : sur une machine partagée, quelques
+ * itérations aberrantes suffisent à tirer la moyenne et sa marge d'erreur bien au-delà du seuil,
+ * alors que la médiane ne bouge pas. Le sens de la comparaison dépend du mode : plus haut est mieux
+ * en débit ({@code thrpt}), plus bas est mieux sinon. Les benchmarks absents de la référence sont
+ * signalés sans faire échouer la comparaison.
+ * <pre>
+ * java -cp target/benchmarks.jar com.fabien.restaurant_booking_api.benchmark.BaselineComparator \
+ *     baseline/jmh-baseline.json target/jmh-result.json 10
+ * </pre>
+ */
+public final class BaselineComparator {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private BaselineComparator() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage : BaselineComparator <référence.json> <résultat.json> <seuil %>");
+      System.exit(2);
+    }
+
+    Map<String, Score> baseline = read(Path.of(args[0]));
+    Map<String, Score> current = read(Path.of(args[1]));
+    double threshold = Double.parseDouble(args[2]);
+
+    List<String> regressions = compare(baseline, current, threshold);
+    if (!regressions.isEmpty()) {
+      System.err.println(regressions.size() + " régression(s) au-delà de " + threshold + " % :");
+      regressions.forEach(line -> System.err.println("  " + line));
+      System.exit(1);
+    }
+    System.out.println("Aucune régression au-delà de " + threshold + " %");
+  }
+
+  /**
+   * @return une ligne par benchmark en régression, vide si aucun
+   */
+  static List<String> compare(Map<String, Score> baseline, Map<String, Score> current,
+      double threshold) {
+    List<String> regressions = new ArrayList<>();
+    current.forEach((name, score) -> {
+      Score reference = baseline.get(name);
+      if (reference == null) {
+        System.out.println("Nouveau benchmark sans référence : " + name);
+        return;
+      }
+
+      double change = score.changeFrom(reference);
+      String line = String.format(Locale.ROOT, "%s : médiane %.3f -> %.3f %s (%+.1f %%)", name,
+          reference.median(), score.median(), score.unit(), change);
+      System.out.println(line);
+      if (change > threshold) {
+        regressions.add(line);
+      }
+    });
+    return regressions;
+  }
+
+  /**
+   * La médiane est lue dans les percentiles calculés par JMH ; un résultat qui n'en a pas (un seul
+   * échantillon) retombe sur le score.
+   */
+  static Map<String, Score> read(Path path) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (JsonNode run : OBJECT_MAPPER.readTree(path.toFile())) {
+      JsonNode metric = run.get("primaryMetric");
+      double median = metric.path("scorePercentiles").path("50.0")
+          .asDouble(metric.get("score").asDouble());
+      scores.put(nameOf(run), new Score(run.get("mode").asText(), median,
+          metric.get("scoreUnit").asText()));
+    }
+    return scores;
+  }
+
+  private static String nameOf(JsonNode run) {
+    StringBuilder name = new StringBuilder(run.get("benchmark").asText());
+    JsonNode params = run.get("params");
+    if (params != null) {
+      Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        name.append(':').append(field.getKey()).append('=').append(field.getValue().asText());
+      }
+    }
+    return name.toString();
+  }
+
+  record Score(String mode, double median, String unit) {
+
+    /**
+     * @return dégradation en pourcentage par rapport à la référence, négative en cas d'amélioration
+     */
+    double changeFrom(Score reference) {
+      double delta = (median - reference.median) / reference.median * 100;
+      return "thrpt".equals(mode) ? -delta : delta;
+    }
+  }
+}
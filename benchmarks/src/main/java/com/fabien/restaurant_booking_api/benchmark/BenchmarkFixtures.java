@@ -0,0 +1,99 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import com.fabien.restaurant_booking_api.booking.application.BookingRequest;
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.BookingStatus;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.customer.domain.Customer;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fabien.restaurant_booking_api.table.domain.DiningTableStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jeux de données déterministes partagés par les benchmarks.
+ */
+final class BenchmarkFixtures {
+
+  private static final TimeSlotType[] SLOTS = TimeSlotType.values();
+
+  private BenchmarkFixtures() {
+  }
+
+  static Restaurant restaurant(long id) {
+    Restaurant restaurant = new Restaurant();
+    restaurant.setId(id);
+    restaurant.setName("Restaurant " + id);
+    restaurant.setAddress(id + " rue des Benchmarks, Lyon");
+    restaurant.setPhoneNumber("04" + String.format("%08d", id));
+    return restaurant;
+  }
+
+  static List<DiningTable> tables(Restaurant restaurant, int count) {
+    List<DiningTable> tables = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      DiningTable table = new DiningTable();
+      table.setId(restaurant.getId() * 1000 + i);
+      table.setRestaurant(restaurant);
+      table.setCapacity(2 + i % 7);
+      table.setStatus(DiningTableStatus.AVAILABLE);
+      tables.add(table);
+    }
+    return tables;
+  }
+
+  static Customer customer(long id) {
+    Customer customer = new Customer();
+    customer.setId(id);
+    customer.setName("Client " + id);
+    customer.setEmail("client" + id + "@example.com");
+    customer.setPhoneNumber("06" + String.format("%08d", id));
+    return customer;
+  }
+
+  /**
+   * Une réservation sur deux créneaux, répartie sur les tables et les jours à venir.
+   */
+  static List<Booking> bookings(List<DiningTable> tables, int days) {
+    List<Booking> bookings = new ArrayList<>();
+    LocalDate today = LocalDate.now();
+    long id = 1;
+    for (int day = 0; day < days; day++) {
+      for (DiningTable table : tables) {
+        for (TimeSlotType slot : SLOTS) {
+          if ((table.getId() + day + slot.ordinal()) % 2 == 0) {
+            bookings.add(booking(id, table, customer(id % 500), today.plusDays(day), slot));
+            id++;
+          }
+        }
+      }
+    }
+    return bookings;
+  }
+
+  static Booking booking(long id, DiningTable table, Customer customer, LocalDate date,
+      TimeSlotType slot) {
+    Booking booking = new Booking();
+    booking.setId(id);
+    booking.setDiningTable(table);
+    booking.setCustomer(customer);
+    booking.setDate(date);
+    booking.setTimeSlotType(slot);
+    booking.setStatus(BookingStatus.IN_PROGRESS);
+    return booking;
+  }
+
+  static BookingRequest bookingRequest() {
+    BookingRequest request = new BookingRequest();
+    request.setDiningTableId(1000L);
+    request.setCustomerName("Camille Durand");
+    request.setCustomerEmail("camille.durand@example.com");
+    request.setCustomerPhoneNumber("0612345678");
+    request.setTimeSlotType(TimeSlotType.DINNER_19H21H);
+    request.setDate(LocalDate.now().plusDays(3));
+    request.setStatus(BookingStatus.IN_PROGRESS);
+    return request;
+  }
+}
@@ -0,0 +1,39 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Remplace un repository Spring Data par une implémentation en mémoire limitée aux méthodes dont
+ * le benchmark a besoin : l'appel de toute autre méthode échoue, ce qui signale qu'un changement
+ * du service a déplacé le chemin mesuré.
+ */
+final class InMemoryRepositories {
+
+  private InMemoryRepositories() {
+  }
+
+  /**
+   * @param methods implémentations indexées par nom de méthode, recevant les arguments de l'appel
+   */
+  static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+    Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+        (instance, method, args) -> {
+          Function<Object[], Object> implementation = methods.get(method.getName());
+          if (implementation != null) {
+            return implementation.apply(args);
+          }
+          if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+              case "hashCode" -> System.identityHashCode(instance);
+              case "equals" -> instance == args[0];
+              default -> type.getSimpleName() + " en mémoire";
+            };
+          }
+          throw new UnsupportedOperationException(
+              type.getSimpleName() + "." + method.getName() + " n'est pas simulé");
+        });
+    return type.cast(proxy);
+  }
+}
@@ -0,0 +1,68 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import com.fabien.restaurant_booking_api.booking.application.BookingMapper;
+import com.fabien.restaurant_booking_api.booking.application.BookingResponse;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Sérialisation JSON des listes renvoyées par les endpoints, avec un ObjectMapper configuré comme
+ * celui de Spring Boot (dates ISO, module java.time).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+  @Param({"10", "100"})
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private List<BookingResponse> bookings;
+  private List<DiningTableResponse> tables;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    Restaurant restaurant = BenchmarkFixtures.restaurant(1);
+    List<DiningTable> diningTables = BenchmarkFixtures.tables(restaurant, size);
+    tables = diningTables.stream().map(DiningTableMapper::toResponse).toList();
+    bookings = BenchmarkFixtures.bookings(diningTables, 1)
+        .stream()
+        .map(BookingMapper::toResponse)
+        .limit(size)
+        .toList();
+  }
+
+  @Benchmark
+  public byte[] bookingResponses() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(bookings);
+  }
+
+  @Benchmark
+  public byte[] diningTableResponses() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(tables);
+  }
+}
@@ -0,0 +1,63 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import com.fabien.restaurant_booking_api.booking.application.BookingMapper;
+import com.fabien.restaurant_booking_api.booking.application.BookingRequest;
+import com.fabien.restaurant_booking_api.booking.application.BookingResponse;
+import com.fabien.restaurant_booking_api.booking.domain.Booking;
+import com.fabien.restaurant_booking_api.booking.domain.TimeSlotType;
+import com.fabien.restaurant_booking_api.restaurant.domain.Restaurant;
+import com.fabien.restaurant_booking_api.table.application.DiningTableMapper;
+import com.fabien.restaurant_booking_api.table.application.DiningTableResponse;
+import com.fabien.restaurant_booking_api.table.domain.DiningTable;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coût unitaire des conversions entre requêtes, entités et réponses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  private BookingRequest bookingRequest;
+  private Booking booking;
+  private DiningTable diningTable;
+
+  @Setup
+  public void setUp() {
+    Restaurant restaurant = BenchmarkFixtures.restaurant(1);
+    diningTable = BenchmarkFixtures.tables(restaurant, 1).getFirst();
+    booking = BenchmarkFixtures.booking(1, diningTable, BenchmarkFixtures.customer(1),
+        LocalDate.now().plusDays(1), TimeSlotType.LUNCH_12H14H);
+    bookingRequest = BenchmarkFixtures.bookingRequest();
+  }
+
+  @Benchmark
+  public Booking bookingToEntity() {
+    return BookingMapper.toEntity(bookingRequest);
+  }
+
+  @Benchmark
+  public BookingResponse bookingToResponse() {
+    return BookingMapper.toResponse(booking);
+  }
+
+  @Benchmark
+  public DiningTableResponse diningTableToResponse() {
+    return DiningTableMapper.toResponse(diningTable);
+  }
+}
@@ -0,0 +1,123 @@
+package com.fabien.restaurant_booking_api.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fabien.restaurant_booking_api.benchmark.BaselineComparator.Score;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BaselineComparatorTest {
+
+  private static final double THRESHOLD = 10;
+
+  @Test
+  void compare_should_report_average_time_above_threshold() {
+    // Given
+    Map<String, Score> baseline = Map.of("check", avgt(100));
+    Map<String, Score> current = Map.of("check", avgt(115));
+
+    // When
+    List<String> regressions = BaselineComparator.compare(baseline, current, THRESHOLD);
+
+    // Then
+    assertThat(regressions).singleElement().asString().startsWith("check :").contains("+15.0 %");
+  }
+
+  @Test
+  void compare_should_accept_change_within_threshold_and_improvements() {
+    // Given
+    Map<String, Score> baseline = Map.of("slower", avgt(100), "faster", avgt(100));
+    Map<String, Score> current = Map.of("slower", avgt(109), "faster", avgt(50));
+
+    // When & Then
+    assertThat(BaselineComparator.compare(baseline, current, THRESHOLD)).isEmpty();
+  }
+
+  @Test
+  void compare_should_treat_lower_throughput_as_regression() {
+    // Given
+    Map<String, Score> baseline = Map.of("up", thrpt(1000), "down", thrpt(1000));
+    Map<String, Score> current = Map.of("up", thrpt(1500), "down", thrpt(800));
+
+    // When
+    List<String> regressions = BaselineComparator.compare(baseline, current, THRESHOLD);
+
+    // Then
+    assertThat(regressions).singleElement().asString().startsWith("down :");
+  }
+
+  @Test
+  void compare_should_ignore_benchmark_missing_from_baseline() {
+    // Given
+    Map<String, Score> current = Map.of("new", avgt(100));
+
+    // When & Then
+    assertThat(BaselineComparator.compare(Map.of(), current, THRESHOLD)).isEmpty();
+  }
+
+  @Test
+  void read_should_name_benchmark_with_its_params(@TempDir Path dir) throws Exception {
+    // Given
+    Path result = dir.resolve("jmh-result.json");
+    Files.writeString(result, """
+        [{
+          "benchmark": "com.example.JsonBenchmark.responses",
+          "mode": "avgt",
+          "params": {"size": "100"},
+          "primaryMetric": {"score": 79.7, "scoreUnit": "us/op"}
+        }]
+        """);
+
+    // When
+    Map<String, Score> scores = BaselineComparator.read(result);
+
+    // Then
+    assertThat(scores).containsExactly(Map.entry("com.example.JsonBenchmark.responses:size=100",
+        new Score("avgt", 79.7, "us/op")));
+  }
+
+  @Test
+  void read_should_score_benchmark_by_median_so_outliers_do_not_fail_comparison(
+      @TempDir Path dir) throws Exception {
+    // Given : quelques itérations aberrantes tirent la moyenne loin au-dessus de la médiane
+    Path baselineFile = dir.resolve("jmh-baseline.json");
+    Files.writeString(baselineFile, result(2900, 2950));
+    Path resultFile = dir.resolve("jmh-result.json");
+    Files.writeString(resultFile, result(6875, 3000));
+
+    // When
+    Map<String, Score> current = BaselineComparator.read(resultFile);
+    List<String> regressions = BaselineComparator.compare(BaselineComparator.read(baselineFile),
+        current, THRESHOLD);
+
+    // Then
+    assertThat(current.get("com.example.AvailabilityBenchmark.check").median()).isEqualTo(3000);
+    assertThat(regressions).isEmpty();
+  }
+
+  private static String result(double score, double median) {
+    return """
+        [{
+          "benchmark": "com.example.AvailabilityBenchmark.check",
+          "mode": "avgt",
+          "primaryMetric": {
+            "score": %s,
+            "scorePercentiles": {"0.0": 2251.4, "50.0": %s, "100.0": 78317.1},
+            "scoreUnit": "ns/op"
+          }
+        }]
+        """.formatted(score, median);
+  }
+
+  private static Score avgt(double median) {
+    return new Score("avgt", median, "ns/op");
+  }
+
+  private static Score thrpt(double median) {
+    return new Score("thrpt", median, "ops/s");
+  }
+}
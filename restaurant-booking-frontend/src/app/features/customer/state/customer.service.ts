@@ -3,6 +3,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { tap, catchError, finalize } from 'rxjs/operators';
 import { EMPTY } from 'rxjs';
+import { getAllPages } from '../../../shared/pagination';
 import { CustomerStore } from './customer.store';
 import { CustomerQuery } from './customer.query';
 import { Customer } from '../model/customer.model';
@@ -22,8 +23,7 @@ export class CustomerService {
     // Pas de return Observable, juste side effect
     this.customerStore.setLoading(true);
 
-    this.http
-      .get<Customer[]>(this.BASE_URL + '/api/customers')
+    getAllPages<Customer>(this.http, this.BASE_URL + '/api/customers')
       .pipe(
         tap((customers) => this.customerStore.set(customers)),
         catchError((error) => {
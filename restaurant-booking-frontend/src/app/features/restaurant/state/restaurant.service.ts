@@ -4,6 +4,7 @@ import { Restaurant } from '../model/restaurant.model';
 import { HttpClient } from '@angular/common/http';
 import { tap, catchError, finalize } from 'rxjs/operators';
 import { EMPTY } from 'rxjs';
+import { getAllPages } from '../../../shared/pagination';
 import { RestaurantQuery } from './restaurant.query';
 
 @Injectable({ providedIn: 'root' })
@@ -20,8 +21,7 @@ export class RestaurantService {
     // Pas de return Observable, juste side effect
     this.restaurantStore.setLoading(true);
 
-    this.http
-      .get<Restaurant[]>(this.BASE_URL + '/api/restaurants')
+    getAllPages<Restaurant>(this.http, this.BASE_URL + '/api/restaurants')
       .pipe(
         tap((restaurants) => this.restaurantStore.set(restaurants)),
         catchError((error) => {
@@ -0,0 +1,26 @@
+import { HttpClient, HttpParams, HttpResponse } from '@angular/common/http';
+import { EMPTY, Observable } from 'rxjs';
+import { expand, reduce } from 'rxjs/operators';
+
+// Curseur de la page suivante, absent sur la dernière page
+const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+
+/**
+ * Lit toutes les pages d'une liste : l'API ne renvoie qu'une page à la fois
+ * et annonce la suivante par l'en-tête X-Next-Cursor.
+ */
+export function getAllPages<T>(http: HttpClient, url: string): Observable<T[]> {
+  const page = (after?: string) =>
+    http.get<T[]>(url, {
+      observe: 'response',
+      params: after ? new HttpParams().set('after', after) : undefined,
+    });
+
+  return page().pipe(
+    expand((response) => {
+      const next = response.headers.get(NEXT_CURSOR_HEADER);
+      return next ? page(next) : EMPTY;
+    }),
+    reduce((items: T[], response: HttpResponse<T[]>) => items.concat(response.body ?? []), [])
+  );
+}